@@ -0,0 +1,22 @@
+package game.ai;
+
+import game.utility.Command;
+
+/**
+ * Decides what the player does on each tick.
+ *
+ * Agents are called once per tick, so decide() should be cheap and should not allocate.
+ * Agents without state may be shared between games; agents with state, such as their own
+ * random number generator, need one instance per game.
+ */
+@FunctionalInterface
+public interface Agent {
+
+    /**
+     * Chooses the player's command for the current tick.
+     *
+     * @param view a read-only view of the game.
+     * @return the command to issue, or null to do nothing this tick.
+     */
+    Command decide(GameView view);
+}
@@ -0,0 +1,69 @@
+package game.ai;
+
+import game.GameController;
+import game.ui.Tickable;
+import game.utility.Command;
+
+/**
+ * Plays a game by asking an Agent for a command every tick and issuing it through the
+ * GameController's input path, exactly as a player's key press would be.
+ *
+ * Register the autopilot with UI.onStep() before calling GameController.startGame(), so each
+ * decision is made before the game advances, or call tick() directly in headless runs.
+ * The time spent deciding is measured, to report decisions per second.
+ */
+public class Autopilot implements Tickable {
+
+    private final Agent agent;
+    private final GameController controller;
+    private final ModelView view;
+    private long decisions;
+    private long decisionNanos;
+
+    /**
+     * Creates an autopilot playing the given controller's game.
+     *
+     * @param agent the agent making decisions.
+     * @param controller the controller to issue commands to.
+     */
+    public Autopilot(Agent agent, GameController controller) {
+        this.agent = agent;
+        this.controller = controller;
+        this.view = new ModelView(controller.getModel());
+    }
+
+    /**
+     * Asks the agent for a command and issues it, unless the agent chooses to wait.
+     *
+     * @param tick the given game tick.
+     */
+    @Override
+    public void tick(int tick) {
+        view.setTick(tick);
+        long start = System.nanoTime();
+        Command command = agent.decide(view);
+        decisionNanos += System.nanoTime() - start;
+        decisions++;
+        if (command != null) {
+            controller.handlePlayerInput(command);
+        }
+    }
+
+    /**
+     * Returns the number of decisions made so far.
+     *
+     * @return the decision count.
+     */
+    public long getDecisions() {
+        return decisions;
+    }
+
+    /**
+     * Returns the agent's decision rate, measured over the time spent inside decide().
+     *
+     * @return decisions per second, or 0 if no decisions have been made.
+     */
+    public double getDecisionsPerSecond() {
+        return decisionNanos == 0 ? 0 : decisions * 1e9 / decisionNanos;
+    }
+}
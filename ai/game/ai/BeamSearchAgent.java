@@ -0,0 +1,206 @@
+package game.ai;
+
+import game.GameModel;
+import game.utility.Command;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An agent that looks ahead by simulating copies of the game.
+ *
+ * Each decision runs a beam search. Every game kept in the beam is forked once per possible
+ * command and advanced by one tick. The children are scored, and the best are kept for the
+ * next step, until the search reaches its depth or runs out of time. The agent then issues
+ * the first command of the best line found. Because forks copy the game's random number
+ * generators, the simulated futures include the objects that will really spawn.
+ *
+ * Beam nodes are expanded in parallel on a work-stealing ForkJoinPool. The search stops
+ * expanding once its per-decision time budget is spent, and node expansions per second are
+ * measured as the agent's headline metric. Use one agent per game.
+ */
+public class BeamSearchAgent implements Agent {
+
+    /**
+     * The default number of ticks to look ahead.
+     */
+    public static final int DEFAULT_DEPTH = 12;
+
+    /**
+     * The default number of games kept at each step of the search.
+     */
+    public static final int DEFAULT_BEAM_WIDTH = 24;
+
+    /**
+     * The default time budget per decision: a fifth of a GUI tick.
+     */
+    public static final long DEFAULT_BUDGET_NANOS = 20_000_000L;
+
+    private static final Command[] ACTIONS = {
+        null, Command.MOVE_UP, Command.MOVE_DOWN, Command.MOVE_LEFT, Command.MOVE_RIGHT,
+        Command.FIRE
+    };
+    private static final double DEAD = -1e9; // Worse than any living game
+    private static final Comparator<Node> BEST_FIRST =
+            Comparator.comparingDouble((Node node) -> node.value).reversed();
+
+    private final int depth;
+    private final int beamWidth;
+    private final long budgetNanos;
+    private final ForkJoinPool pool;
+    private final LongAdder expansions = new LongAdder();
+    private long searchNanos;
+
+    /**
+     * Creates an agent with the default depth, beam width and budget, searching on the
+     * common ForkJoinPool.
+     */
+    public BeamSearchAgent() {
+        this(DEFAULT_DEPTH, DEFAULT_BEAM_WIDTH, DEFAULT_BUDGET_NANOS, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates an agent with the given search parameters.
+     *
+     * @param depth the number of ticks to look ahead.
+     * @param beamWidth the number of games kept at each step.
+     * @param budgetNanos the time allowed per decision, in nanoseconds.
+     * @param pool the pool to expand the beam on.
+     * @throws IllegalArgumentException if depth, beamWidth or budgetNanos is not positive.
+     */
+    public BeamSearchAgent(int depth, int beamWidth, long budgetNanos, ForkJoinPool pool) {
+        if (depth <= 0 || beamWidth <= 0 || budgetNanos <= 0) {
+            throw new IllegalArgumentException("Depth, beam width and budget must be positive.");
+        }
+        this.depth = depth;
+        this.beamWidth = beamWidth;
+        this.budgetNanos = budgetNanos;
+        this.pool = pool;
+    }
+
+    @Override
+    public Command decide(GameView view) {
+        long start = System.nanoTime();
+        long deadline = start + budgetNanos;
+        GameModel root = view.fork();
+        List<Node> beam = List.of(new Node(root, null, 0));
+        Node best = null;
+        for (int ply = 0; ply < depth && System.nanoTime() < deadline; ply++) {
+            List<Node> children = pool.invoke(
+                    new Expansion(beam, 0, beam.size(), view.getTick() + ply, ply, deadline));
+            children.sort(BEST_FIRST); // Stable, so ties keep the order of ACTIONS
+            beam = children.subList(0, Math.min(beamWidth, children.size()));
+            best = beam.get(0);
+        }
+        searchNanos += System.nanoTime() - start;
+        return best == null ? null : best.first;
+    }
+
+    /**
+     * Scores a simulated game: staying alive matters most, then health, then destroyed
+     * enemies and score. Games that end later score better than games that end sooner.
+     * A line is valued by the sum of the scores of its games, so gains made sooner count
+     * for more than the same gains made later.
+     */
+    private static double evaluate(GameModel model, int ply) {
+        if (model.checkGameOver()) {
+            return DEAD + ply;
+        }
+        return model.getShip().getHealth() * 100.0
+                + model.getStatsTracker().getShotsHit() * 200.0
+                + model.getShip().getScore() * 10.0;
+    }
+
+    /**
+     * Returns the number of games simulated so far.
+     *
+     * @return the number of node expansions.
+     */
+    public long getExpansions() {
+        return expansions.sum();
+    }
+
+    /**
+     * Returns the number of games simulated per second of search.
+     *
+     * @return node expansions per second, or 0 if no search has run.
+     */
+    public double getExpansionsPerSecond() {
+        return searchNanos == 0 ? 0 : expansions.sum() * 1e9 / searchNanos;
+    }
+
+    /**
+     * A simulated game, with the command at the root of the line that led to it and the
+     * value of that line.
+     */
+    private static final class Node {
+        private final GameModel model;
+        private final Command first;
+        private final double value;
+
+        private Node(GameModel model, Command first, double value) {
+            this.model = model;
+            this.first = first;
+            this.value = value;
+        }
+    }
+
+    /**
+     * Expands a range of the beam, splitting it in half until a single node remains.
+     * Nodes are returned unexpanded if their game is over or the deadline has passed.
+     */
+    private final class Expansion extends RecursiveTask<List<Node>> {
+        private static final long serialVersionUID = 1L;
+
+        private final List<Node> beam;
+        private final int from;
+        private final int to;
+        private final int tick;
+        private final int ply;
+        private final long deadline;
+
+        private Expansion(List<Node> beam, int from, int to, int tick, int ply, long deadline) {
+            this.beam = beam;
+            this.from = from;
+            this.to = to;
+            this.tick = tick;
+            this.ply = ply;
+            this.deadline = deadline;
+        }
+
+        @Override
+        protected List<Node> compute() {
+            if (to - from == 1) {
+                return expand(beam.get(from));
+            }
+            int middle = (from + to) >>> 1;
+            Expansion left = new Expansion(beam, from, middle, tick, ply, deadline);
+            left.fork();
+            List<Node> right = new Expansion(beam, middle, to, tick, ply, deadline).compute();
+            List<Node> children = left.join();
+            children.addAll(right);
+            return children;
+        }
+
+        private List<Node> expand(Node node) {
+            List<Node> children = new ArrayList<>(ACTIONS.length);
+            if (node.model.checkGameOver() || System.nanoTime() >= deadline) {
+                children.add(node);
+                return children;
+            }
+            for (Command action : ACTIONS) {
+                GameModel child = node.model.fork();
+                Simulation.step(child, action, tick);
+                expansions.increment();
+                double value = child.checkGameOver() ? DEAD + ply + 1
+                        : node.value + evaluate(child, ply + 1);
+                children.add(new Node(child, ply == 0 ? action : node.first, value));
+            }
+            return children;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package game.ai;
+
+import game.GameModel;
+import game.core.SpaceObject;
+import game.core.SpaceObjectKind;
+
+import java.util.List;
+
+/**
+ * A read-only view of a game, as seen by an Agent.
+ *
+ * Occupancy queries are answered from the model's bitboards, so agents can inspect the board
+ * cell by cell without scanning the object list or allocating.
+ */
+public interface GameView {
+
+    /**
+     * Returns the tick the agent is deciding for.
+     *
+     * @return the current game tick.
+     */
+    int getTick();
+
+    /**
+     * Returns the width of the board.
+     *
+     * @return the number of columns.
+     */
+    int getWidth();
+
+    /**
+     * Returns the height of the board.
+     *
+     * @return the number of rows.
+     */
+    int getHeight();
+
+    /**
+     * Returns the x-coordinate of the player's ship.
+     *
+     * @return the ship's x-coordinate.
+     */
+    int getShipX();
+
+    /**
+     * Returns the y-coordinate of the player's ship.
+     *
+     * @return the ship's y-coordinate.
+     */
+    int getShipY();
+
+    /**
+     * Returns the health of the player's ship.
+     *
+     * @return the ship's health.
+     */
+    int getShipHealth();
+
+    /**
+     * Returns the player's score.
+     *
+     * @return the current score.
+     */
+    int getScore();
+
+    /**
+     * Returns the current level.
+     *
+     * @return the current level.
+     */
+    int getLevel();
+
+    /**
+     * Returns whether an object of the given kind occupies the given cell.
+     * The player's ship is never reported; use getShipX() and getShipY() instead.
+     *
+     * @param kind the kind of object.
+     * @param x the x-coordinate of the cell.
+     * @param y the y-coordinate of the cell.
+     * @return true if an object of the kind is in the cell.
+     */
+    boolean isOccupied(SpaceObjectKind kind, int x, int y);
+
+    /**
+     * Returns whether any object other than the player's ship occupies the given cell.
+     *
+     * @param x the x-coordinate of the cell.
+     * @param y the y-coordinate of the cell.
+     * @return true if the cell is occupied.
+     */
+    boolean isOccupied(int x, int y);
+
+    /**
+     * Returns the objects in the game. The list cannot be modified.
+     *
+     * @return an unmodifiable view of the game's objects.
+     */
+    List<SpaceObject> getSpaceObjects();
+
+    /**
+     * Returns an independent copy of the game, which agents may advance to look ahead.
+     *
+     * @return a copy of the game.
+     */
+    GameModel fork();
+}
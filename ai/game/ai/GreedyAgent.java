@@ -0,0 +1,86 @@
+package game.ai;
+
+import game.core.SpaceObjectKind;
+import game.utility.Command;
+
+/**
+ * An agent that dodges whatever is about to hit the ship, then lines up under enemies and
+ * shoots them. It looks only at the ship's surroundings and the columns above it, and keeps
+ * no state, so one instance can be shared by any number of games.
+ *
+ * In order of priority, the agent:
+ * 1. moves sideways (or down) if an asteroid or enemy is in or just above the ship's cell,
+ * 2. fires if an enemy is above the ship and no bullet is already on its way,
+ * 3. moves towards the closest column with an enemy above the ship, if that is safe,
+ * 4. otherwise waits.
+ */
+public class GreedyAgent implements Agent {
+
+    @Override
+    public Command decide(GameView view) {
+        int x = view.getShipX();
+        int y = view.getShipY();
+        if (isThreatened(view, x, y)) {
+            return dodge(view, x, y);
+        }
+        if (hasEnemyAbove(view, x, y)) {
+            return hasBulletAbove(view, x, y) ? null : Command.FIRE;
+        }
+        for (int distance = 1; distance < view.getWidth(); distance++) {
+            if (x - distance >= 0 && hasEnemyAbove(view, x - distance, y)) {
+                return isThreatened(view, x - 1, y) ? null : Command.MOVE_LEFT;
+            }
+            if (x + distance < view.getWidth() && hasEnemyAbove(view, x + distance, y)) {
+                return isThreatened(view, x + 1, y) ? null : Command.MOVE_RIGHT;
+            }
+        }
+        return null;
+    }
+
+    private static Command dodge(GameView view, int x, int y) {
+        if (x > 0 && !isThreatened(view, x - 1, y)) {
+            return Command.MOVE_LEFT;
+        }
+        if (x + 1 < view.getWidth() && !isThreatened(view, x + 1, y)) {
+            return Command.MOVE_RIGHT;
+        }
+        if (y + 1 < view.getHeight() && !isThreatened(view, x, y + 1)) {
+            return Command.MOVE_DOWN;
+        }
+        return null;
+    }
+
+    /**
+     * Returns whether an asteroid or enemy is in the given cell or the cell above it, and so
+     * will hit a ship there by the next time it descends.
+     */
+    private static boolean isThreatened(GameView view, int x, int y) {
+        return isHostile(view, x, y) || isHostile(view, x, y - 1);
+    }
+
+    private static boolean isHostile(GameView view, int x, int y) {
+        return view.isOccupied(SpaceObjectKind.ASTEROID, x, y)
+                || view.isOccupied(SpaceObjectKind.ENEMY, x, y);
+    }
+
+    private static boolean hasEnemyAbove(GameView view, int x, int y) {
+        for (int row = y - 1; row >= 0; row--) {
+            if (view.isOccupied(SpaceObjectKind.ENEMY, x, row)) {
+                return true;
+            }
+            if (view.isOccupied(SpaceObjectKind.ASTEROID, x, row)) {
+                return false; // Bullets stop at asteroids
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasBulletAbove(GameView view, int x, int y) {
+        for (int row = y; row >= 0; row--) {
+            if (view.isOccupied(SpaceObjectKind.BULLET, x, row)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,99 @@
+package game.ai;
+
+import game.GameModel;
+import game.core.SpaceObject;
+import game.core.SpaceObjectKind;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A GameView reading directly from a GameModel.
+ * The view is live: it always reflects the current state of the model, so one view can be
+ * created per game and reused for every decision.
+ */
+public class ModelView implements GameView {
+
+    private final GameModel model;
+    private final List<SpaceObject> objects;
+    private int tick;
+
+    /**
+     * Creates a view of the given model.
+     *
+     * @param model the model to view.
+     */
+    public ModelView(GameModel model) {
+        this.model = model;
+        this.objects = Collections.unmodifiableList(model.getSpaceObjects());
+    }
+
+    /**
+     * Sets the tick reported to agents.
+     *
+     * @param tick the current game tick.
+     */
+    public void setTick(int tick) {
+        this.tick = tick;
+    }
+
+    @Override
+    public int getTick() {
+        return tick;
+    }
+
+    @Override
+    public int getWidth() {
+        return GameModel.GAME_WIDTH;
+    }
+
+    @Override
+    public int getHeight() {
+        return GameModel.GAME_HEIGHT;
+    }
+
+    @Override
+    public int getShipX() {
+        return model.getShip().getX();
+    }
+
+    @Override
+    public int getShipY() {
+        return model.getShip().getY();
+    }
+
+    @Override
+    public int getShipHealth() {
+        return model.getShip().getHealth();
+    }
+
+    @Override
+    public int getScore() {
+        return model.getShip().getScore();
+    }
+
+    @Override
+    public int getLevel() {
+        return model.getLevel();
+    }
+
+    @Override
+    public boolean isOccupied(SpaceObjectKind kind, int x, int y) {
+        return model.getOccupancy(kind).get(x, y);
+    }
+
+    @Override
+    public boolean isOccupied(int x, int y) {
+        return model.getOccupancy().get(x, y);
+    }
+
+    @Override
+    public List<SpaceObject> getSpaceObjects() {
+        return objects;
+    }
+
+    @Override
+    public GameModel fork() {
+        return model.fork();
+    }
+}
@@ -0,0 +1,40 @@
+package game.ai;
+
+import game.utility.Command;
+import game.utility.GameRandom;
+import game.utility.SplitMixRandom;
+
+/**
+ * An agent that moves, fires or waits uniformly at random. It never pauses the game.
+ * Useful as a baseline and for exercising the game with varied input.
+ */
+public class RandomAgent implements Agent {
+
+    private static final Command[] CHOICES = {
+        null, Command.MOVE_UP, Command.MOVE_DOWN, Command.MOVE_LEFT, Command.MOVE_RIGHT,
+        Command.FIRE
+    };
+
+    private final GameRandom random;
+
+    /**
+     * Creates a random agent with an arbitrary seed.
+     */
+    public RandomAgent() {
+        this(new SplitMixRandom());
+    }
+
+    /**
+     * Creates a random agent drawing from the given generator.
+     *
+     * @param random the generator to draw from.
+     */
+    public RandomAgent(GameRandom random) {
+        this.random = random;
+    }
+
+    @Override
+    public Command decide(GameView view) {
+        return CHOICES[random.nextInt(CHOICES.length)];
+    }
+}
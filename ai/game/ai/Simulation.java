@@ -0,0 +1,41 @@
+package game.ai;
+
+import game.GameModel;
+import game.utility.Command;
+
+/**
+ * Advances forked games the way GameController advances a live game, for agents that look
+ * ahead. Nothing is rendered, logged or recorded as an achievement.
+ */
+public class Simulation {
+
+    private Simulation() {
+    }
+
+    /**
+     * Applies a command and then advances the game by one tick, as a key press followed by
+     * GameController.onTick() would. Blocked moves are ignored.
+     *
+     * @param model the game to advance.
+     * @param command the command to apply, or null to do nothing.
+     * @param tick the tick to advance the game to.
+     */
+    public static void step(GameModel model, Command command, int tick) {
+        if (command != null) {
+            switch (command) {
+                case MOVE_UP, MOVE_DOWN, MOVE_LEFT, MOVE_RIGHT ->
+                        model.getShip().tryMove(command.getDirection());
+                case FIRE -> {
+                    model.fireBullet();
+                    model.getStatsTracker().recordShotFired();
+                }
+                default -> {
+                }
+            }
+        }
+        model.updateGame(tick);
+        model.checkCollisions();
+        model.spawnObjects();
+        model.levelUp();
+    }
+}
@@ -0,0 +1,328 @@
+package game.ai;
+
+import game.GameModel;
+import game.achievements.PlayerStatsTracker;
+import game.core.SpaceObject;
+import game.core.SpaceObjectKind;
+import game.utility.Command;
+import game.utility.SplitMixRandom;
+import game.utility.TickClock;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A reinforcement learning environment that advances many independent games in one call,
+ * in the style of a vectorized gym environment.
+ *
+ * Actions are ints: 0 waits, 1 to 4 move up, down, left and right, and 5 fires.
+ * Each game's observation is OBSERVATION_SIZE floats: one GAME_WIDTH by GAME_HEIGHT
+ * occupancy grid per object kind (row by row, in SpaceObjectKind order, starting with the
+ * ship), followed by the ship's health as a fraction of 100 and the score. Observations,
+ * rewards and done flags are written into arrays owned by the environment, which are reused
+ * by every step.
+ *
+ * A step's reward is the score gained minus the damage taken. A game is done when the ship
+ * is destroyed or the game reaches its step limit, and is reset straight away, so the
+ * observation after a done step is the first observation of the next game.
+ *
+ * Games are divided between a fixed set of worker threads, which are parked between steps.
+ * Stepping allocates nothing beyond the objects the games themselves spawn. Call close() to
+ * stop the workers.
+ */
+public class VectorEnv implements AutoCloseable {
+
+    /**
+     * The number of distinct actions.
+     */
+    public static final int ACTIONS = 6;
+
+    /**
+     * The number of occupancy grids in an observation, one per standard object kind.
+     */
+    public static final int CHANNELS = SpaceObjectKind.OTHER.ordinal();
+
+    private static final int CELLS = GameModel.GAME_WIDTH * GameModel.GAME_HEIGHT;
+
+    /**
+     * The number of floats in one game's observation.
+     */
+    public static final int OBSERVATION_SIZE = CHANNELS * CELLS + 2;
+
+    /**
+     * The default number of steps before a game is cut short.
+     */
+    public static final int DEFAULT_MAX_STEPS = 10_000;
+
+    private static final Command[] COMMANDS = {
+        null, Command.MOVE_UP, Command.MOVE_DOWN, Command.MOVE_LEFT, Command.MOVE_RIGHT,
+        Command.FIRE
+    };
+
+    private final int size;
+    private final int maxSteps;
+    private final SplitMixRandom[] seeds; // One per game, so resets do not depend on timing
+    private final GameModel[] games;
+    private final int[] steps;
+    private final int[] healths;
+    private final int[] scores;
+    private final float[] observations;
+    private final float[] rewards;
+    private final boolean[] dones;
+    private int[] actions;
+
+    private final Thread[] workers;
+    private final AtomicInteger remaining = new AtomicInteger();
+    private volatile int epoch;
+    private volatile boolean closed;
+    private volatile Thread caller;
+    private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+
+    /**
+     * Creates an environment of the given number of games, stepped on as many threads as
+     * there are processors.
+     *
+     * @param size the number of games.
+     * @param seed the seed all games are derived from.
+     * @throws IllegalArgumentException if size is not positive.
+     */
+    public VectorEnv(int size, long seed) {
+        this(size, seed, DEFAULT_MAX_STEPS, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates an environment of the given number of games.
+     *
+     * @param size the number of games.
+     * @param seed the seed all games are derived from.
+     * @param maxSteps the number of steps after which a game is done.
+     * @param threads the number of threads to step games on.
+     * @throws IllegalArgumentException if size, maxSteps or threads is not positive.
+     */
+    public VectorEnv(int size, long seed, int maxSteps, int threads) {
+        if (size <= 0 || maxSteps <= 0 || threads <= 0) {
+            throw new IllegalArgumentException("Size, step limit and threads must be positive.");
+        }
+        this.size = size;
+        this.maxSteps = maxSteps;
+        SplitMixRandom root = new SplitMixRandom(seed);
+        this.seeds = new SplitMixRandom[size];
+        for (int i = 0; i < size; i++) {
+            seeds[i] = root.split();
+        }
+        this.games = new GameModel[size];
+        this.steps = new int[size];
+        this.healths = new int[size];
+        this.scores = new int[size];
+        this.observations = new float[size * OBSERVATION_SIZE];
+        this.rewards = new float[size];
+        this.dones = new boolean[size];
+        // The calling thread steps the first share of games, so one fewer worker is needed
+        this.workers = new Thread[Math.min(threads, size) - 1];
+        for (int i = 0; i < workers.length; i++) {
+            int share = i + 1;
+            workers[i] = new Thread(() -> work(share), "vector-env-" + share);
+            workers[i].setDaemon(true);
+            workers[i].start();
+        }
+    }
+
+    /**
+     * Starts a new game on every board.
+     *
+     * @return the observations of all games, OBSERVATION_SIZE floats per game.
+     */
+    public float[] reset() {
+        for (int i = 0; i < size; i++) {
+            resetGame(i);
+            observe(i);
+        }
+        Arrays.fill(rewards, 0);
+        Arrays.fill(dones, false);
+        return observations;
+    }
+
+    /**
+     * Applies one action to each game and advances them all by one tick.
+     * Results are available from getObservations(), getRewards() and getDones().
+     *
+     * @param actions the action for each game, between 0 and ACTIONS - 1.
+     * If stepping a game throws, every other game is still stepped, and then the exception
+     * is rethrown. If several games throw, one of their exceptions is rethrown.
+     *
+     * @param actions the action for each game, between 0 and ACTIONS - 1.
+     * @throws IllegalArgumentException if there is not one action per game, or an action is
+     *         out of range. No game is stepped.
+     * @throws IllegalStateException if the environment has been closed or not reset.
+     */
+    public void step(int[] actions) {
+        if (actions.length != size) {
+            throw new IllegalArgumentException("Expected " + size + " actions.");
+        }
+        for (int i = 0; i < size; i++) {
+            if (actions[i] < 0 || actions[i] >= ACTIONS) {
+                throw new IllegalArgumentException("Action " + actions[i] + " for game " + i
+                        + " is not between 0 and " + (ACTIONS - 1) + ".");
+            }
+        }
+        if (closed || games[0] == null) {
+            throw new IllegalStateException("The environment must be reset and open to step.");
+        }
+        this.actions = actions;
+        caller = Thread.currentThread();
+        remaining.set(workers.length);
+        epoch++;
+        for (Thread worker : workers) {
+            LockSupport.unpark(worker);
+        }
+        stepShare(0);
+        while (remaining.get() != 0) {
+            LockSupport.park(this);
+        }
+        RuntimeException thrown = failure.getAndSet(null);
+        if (thrown != null) {
+            throw thrown;
+        }
+    }
+
+    private void work(int share) {
+        int seen = 0;
+        while (true) {
+            while (epoch == seen && !closed) {
+                LockSupport.park(this);
+            }
+            if (closed) {
+                return;
+            }
+            seen = epoch;
+            stepShare(share);
+            if (remaining.decrementAndGet() == 0) {
+                LockSupport.unpark(caller);
+            }
+        }
+    }
+
+    private void stepShare(int share) {
+        int shares = workers.length + 1;
+        int from = (int) ((long) size * share / shares);
+        int to = (int) ((long) size * (share + 1) / shares);
+        for (int i = from; i < to; i++) {
+            try {
+                stepGame(i);
+            } catch (RuntimeException e) {
+                failure.compareAndSet(null, e); // Rethrown by step() once every game has stepped
+            }
+        }
+    }
+
+    private void stepGame(int i) {
+        GameModel game = games[i];
+        Simulation.step(game, COMMANDS[actions[i]], steps[i]++);
+        int health = game.getShip().getHealth();
+        int score = game.getShip().getScore();
+        rewards[i] = (score - scores[i]) - Math.max(0, healths[i] - health);
+        healths[i] = health;
+        scores[i] = score;
+        dones[i] = game.checkGameOver() || steps[i] >= maxSteps;
+        if (dones[i]) {
+            resetGame(i);
+        }
+        observe(i);
+    }
+
+    private void resetGame(int i) {
+        GameModel game = new GameModel(text -> { }, new PlayerStatsTracker(new TickClock()));
+        game.setRandomStreams(seeds[i].split());
+        games[i] = game;
+        steps[i] = 0;
+        healths[i] = game.getShip().getHealth();
+        scores[i] = game.getShip().getScore();
+    }
+
+    private void observe(int i) {
+        int base = i * OBSERVATION_SIZE;
+        Arrays.fill(observations, base, base + CHANNELS * CELLS, 0);
+        GameModel game = games[i];
+        List<SpaceObject> objects = game.getSpaceObjects();
+        for (int j = 0; j < objects.size(); j++) {
+            mark(base, objects.get(j));
+        }
+        mark(base, game.getShip());
+        observations[base + CHANNELS * CELLS] = game.getShip().getHealth() / 100f;
+        observations[base + CHANNELS * CELLS + 1] = game.getShip().getScore();
+    }
+
+    private void mark(int base, SpaceObject object) {
+        int channel = SpaceObjectKind.of(object).ordinal();
+        int x = object.getX();
+        int y = object.getY();
+        if (channel < CHANNELS && x >= 0 && x < GameModel.GAME_WIDTH
+                && y >= 0 && y < GameModel.GAME_HEIGHT) {
+            observations[base + channel * CELLS + y * GameModel.GAME_WIDTH + x] = 1;
+        }
+    }
+
+    /**
+     * Returns the number of games.
+     *
+     * @return the number of games.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the game at the given index, for inspecting or rendering it. The game is
+     * replaced when it is reset, and must not be changed while a step is in progress.
+     *
+     * @param index the index of the game, between 0 and size() - 1.
+     * @return the game.
+     */
+    public GameModel getGame(int index) {
+        return games[index];
+    }
+
+    /**
+     * Returns the observations of all games, OBSERVATION_SIZE floats per game.
+     * The array is updated in place by every step.
+     *
+     * @return the observations.
+     */
+    public float[] getObservations() {
+        return observations;
+    }
+
+    /**
+     * Returns the reward each game earned on the last step.
+     * The array is updated in place by every step.
+     *
+     * @return the rewards.
+     */
+    public float[] getRewards() {
+        return rewards;
+    }
+
+    /**
+     * Returns whether each game ended on the last step, and so was reset.
+     * The array is updated in place by every step.
+     *
+     * @return the done flags.
+     */
+    public boolean[] getDones() {
+        return dones;
+    }
+
+    /**
+     * Stops the worker threads. The environment cannot be stepped afterwards.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        for (Thread worker : workers) {
+            LockSupport.unpark(worker);
+        }
+    }
+}
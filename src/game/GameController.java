@@ -3,13 +3,18 @@ package game;
 import game.achievements.Achievement;
 import game.achievements.AchievementManager;
 import game.achievements.PlayerStatsTracker;
+import game.core.Ship;
+import game.events.GameEvent;
+import game.events.GameEventType;
+import game.jfr.TickPhaseEvent;
+import game.ui.KeyHandler;
 import game.ui.UI;
+import game.utility.Command;
 import game.utility.Direction;
+import game.utility.GameClock;
 
-import java.util.List;
-
-import static game.utility.Direction.*;
-import static game.utility.Direction.RIGHT;
+import java.awt.GraphicsEnvironment;
+import java.util.EnumSet;
 
 /**
  * The Controller handling the game flow and interactions.
@@ -21,6 +26,7 @@ public class GameController {
     private boolean paused = false;
 
 
+    private final GameClock clock;
     private final long startTime;
     private final UI ui;
     private final GameModel model;
@@ -32,11 +38,18 @@ public class GameController {
      */
     private boolean isVerbose = false;
 
+    /**
+     * Whether moving the ship into a boundary should throw a BoundaryExceededException.
+     * Off by default, in which case blocked moves are ignored.
+     */
+    private boolean strictBoundaries = false;
+
 
     /**
      * Initializes the game controller with the given UI, GameModel and AchievementManager.
      * Stores the UI, GameModel, AchievementManager and start time.
-     * The start time System.currentTimeMillis() should be stored as a long.
+     * Time is measured with the GameClock of the model's PlayerStatsTracker, so a model built
+     * with a TickClock reports survival time that follows the simulation.
      * Starts the UI using UI.start().
      *
      * @param ui the UI used to draw the Game
@@ -52,15 +65,17 @@ public class GameController {
         this.ui = ui;
         ui.start();
         this.model = model;
-        this.startTime = System.currentTimeMillis(); // Current time
+        this.clock = model.getStatsTracker().getClock();
+        this.startTime = clock.millis(); // Current time
         this.achievementManager = achievementManager;
+        model.getEventBus().subscribe(EnumSet.of(GameEventType.MOVE), this::logEvent);
     }
 
 
     /**
      * Initializes the game controller with the given UI and GameModel.
      * Stores the ui, model and start time.
-     * The start time System.currentTimeMillis() should be stored as a long.
+     * The model's PlayerStatsTracker is timed by a monotonic system clock.
      * @param ui    the UI used to draw the Game
      * @param achievementManager the manager used to maintain achievement information
      * @requires ui is not null
@@ -83,32 +98,54 @@ public class GameController {
     /**
      * Starts the main game loop.
      * Passes onTick and handlePlayerInput to ui.onStep and ui.onKey respectively.
+     * Keys given as key codes are dispatched without being converted to text.
      * @provided
      */
     public void startGame() {
         ui.onStep(this::onTick);
-        ui.onKey(this::handlePlayerInput);
+        ui.onKey(new KeyHandler() {
+            @Override
+            public void onPress(String key) {
+                handlePlayerInput(key);
+            }
+
+            @Override
+            public void onPress(int keyCode) {
+                handlePlayerInput(keyCode);
+            }
+        });
     }
 
 
     /**
      * Uses the provided tick to call and advance the following:
+     * - A call to clock.tick(tick) to advance the game clock.
      * - A call to model.updateGame(tick) to advance the game by the given tick.
      * - A call to model.checkCollisions() to handle game interactions.
      * - A call to model.spawnObjects() to handle object creation.
      * - A call to model.levelUp() to check and handle leveling.
      * - A call to refreshAchievements(tick) to handle achievement updating.
      * - A call to renderGame() to draw the current state of the game.
+     * Each of these phases is timed by a TickPhaseEvent when Flight Recorder enables it.
      * @param tick the provided tick
      * @provided
      */
     public void onTick(int tick) {
+        TickPhaseEvent phase = TickPhaseEvent.start(tick, TickPhaseEvent.CLOCK);
+        clock.tick(tick); // Advance game time
+        phase = phase.next(TickPhaseEvent.UPDATE);
         model.updateGame(tick); // Update GameObjects
+        phase = phase.next(TickPhaseEvent.COLLISIONS);
         model.checkCollisions(); // Check for Collisions
+        phase = phase.next(TickPhaseEvent.SPAWN);
         model.spawnObjects(); // Handles new spawns
+        phase = phase.next(TickPhaseEvent.LEVEL_UP);
         model.levelUp(); // Level up when score threshold is met
+        phase = phase.next(TickPhaseEvent.ACHIEVEMENTS);
         refreshAchievements(tick); // Handle achievement updating.
+        phase = phase.next(TickPhaseEvent.RENDER);
         renderGame(); // Update Visual
+        phase.finish();
 
         // Check game over
         if (model.checkGameOver()) {
@@ -128,9 +165,17 @@ public class GameController {
      * - Survival time in seconds
      * - Progress for each achievement, including name, description, completion percentage
      * and current tier
+     * Without a display (for example with a terminal UI on a headless machine) the statistics
+     * are logged to the UI instead.
      * @provided
      */
     private void showGameOverWindow() {
+        if (GraphicsEnvironment.isHeadless()) {
+            for (String line : buildGameOverStatsText().split("\n")) {
+                ui.log(line);
+            }
+            return;
+        }
         javax.swing.JFrame gameOverFrame = new javax.swing.JFrame("Game Over - Player Stats");
         gameOverFrame.setSize(400, 300);
         gameOverFrame.setLocationRelativeTo(null);
@@ -196,6 +241,15 @@ public class GameController {
         model.setVerbose(verbose);
     }
 
+    /**
+     * Sets whether moving the ship into a game boundary throws a BoundaryExceededException.
+     * When not strict (the default), a blocked move leaves the ship in place and is not logged.
+     * @param strict - whether blocked moves should throw.
+     */
+    public void setStrictBoundaries(boolean strict) {
+        this.strictBoundaries = strict;
+    }
+
     /**
      * Updates the player's progress towards achievements on every game tick, and uses the achievementManager to track and update the player's achievements.
      * Progress is a double representing completion percentage, and must be >= 0.0, and <= 1.0.
@@ -245,7 +299,7 @@ public class GameController {
     /**
      * Renders the current game state, including score, health, level, and survival time.
      * - Uses ui.setStat() to update the "Score", "Health" and "Level" appropriately with information from the model.
-     * - Uses ui.setStat() to update "Time Survived" with (System.currentTimeMillis() - startTime) / 1000 + " seconds"
+     * - Uses ui.setStat() to update "Time Survived" with (clock.millis() - startTime) / 1000 + " seconds"
      * - Renders all spaceObjects using one call to ui.render().
      */
     public void renderGame() {
@@ -265,7 +319,7 @@ public class GameController {
     }
 
     private String getSurvivalTime() {
-        return (System.currentTimeMillis() - startTime) / 1000 + " seconds";
+        return (clock.millis() - startTime) / 1000 + " seconds";
     }
 
     /**
@@ -281,38 +335,59 @@ public class GameController {
      * @param input - the player's input command.
      */
     public void handlePlayerInput(String input) {
+        handlePlayerInput(Command.fromInput(input));
+    }
+
+    /**
+     * Handles player input given as a key code, as in handlePlayerInput(String).
+     * @param keyCode - the character code of the player's key.
+     */
+    public void handlePlayerInput(int keyCode) {
+        handlePlayerInput(Command.fromKey(keyCode));
+    }
+
+    /**
+     * Handles a player command, as in handlePlayerInput(String).
+     * Scripted input such as bots and replays should issue commands directly.
+     * @param command - the player's command.
+     */
+    public void handlePlayerInput(Command command) {
         if (model.getShip() == null) {
             return;
         }
         if (isPaused()) {
-            if (input.equalsIgnoreCase("P")) {
+            if (command == Command.PAUSE) {
                 pauseGame();
             }
             return;
         }
-        switch (input.toUpperCase()) {
-            case "W" -> handleMovementInput(UP);
-            case "S" -> handleMovementInput(DOWN);
-            case "A" -> handleMovementInput(LEFT);
-            case "D" -> handleMovementInput(RIGHT);
-
-            case "P" -> handlePauseInput();
-            case "F" -> handleFireInput();
+        switch (command) {
+            case MOVE_UP, MOVE_DOWN, MOVE_LEFT, MOVE_RIGHT -> handleMovementInput(command.getDirection());
+
+            case PAUSE -> handlePauseInput();
+            case FIRE -> handleFireInput();
             default -> ui.log("Invalid input. Use W, A, S, D, F, or P.");
         }
     }
 
     private void logMovement() {
+        Ship ship = model.getShip();
+        model.getEventBus().publish(GameEventType.MOVE, ship, ship.getX(), ship.getY());
+        model.getEventBus().flush();
+    }
 
+    private void logEvent(GameEvent event) {
         if (isVerbose) {
-            ui.log("Ship moved to ("
-                    + model.getShip().getX() + ", "
-                    + model.getShip().getY() + ")");
+            ui.log(event.format());
         }
     }
 
     private void handleMovementInput(Direction direction) {
-        model.getShip().move(direction);
+        if (strictBoundaries) {
+            model.getShip().move(direction);
+        } else if (!model.getShip().tryMove(direction)) {
+            return;
+        }
         logMovement();
     }
 
@@ -3,12 +3,27 @@ package game;
 
 import game.achievements.PlayerStatsTracker;
 import game.core.*;
+import game.events.GameEvent;
+import game.events.GameEventBus;
+import game.events.GameEventType;
+import game.jfr.CollisionEvent;
+import game.jfr.LevelUpEvent;
+import game.jfr.SpawnEvent;
+import game.progression.LevelProgression;
+import game.progression.ProgressionCurve;
+import game.spawn.SpawnScheduler;
+import game.spawn.SpawnWeights;
+import game.utility.Bitboard;
+import game.utility.GameRandom;
+import game.utility.LegacyRandom;
 import game.utility.Logger;
+import game.utility.ZobristKeys;
 import game.core.SpaceObject;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
-import java.util.Random;
+import java.util.function.Predicate;
 
 /**
  * Represents the game information and state. Stores and manipulates the game state.
@@ -21,17 +36,42 @@ public class GameModel {
     public static final int SPAWN_RATE_INCREASE = 5; // Increase spawn rate by 5% per level
     public static final int START_LEVEL = 1; // Starting level value
     public static final int SCORE_THRESHOLD = 100; // Score threshold for leveling
+    public static final int MAX_SPAWN_RATE = 100; // Spawn rate is a percentage, so never exceeds 100
     public static final int ASTEROID_DAMAGE = 10; // The amount of damage an asteroid deals
     public static final int ENEMY_DAMAGE = 20; // The amount of damage an enemy deals
     public static final double ENEMY_SPAWN_RATE = 0.5; // Percentage of asteroid spawn chance
     public static final double POWER_UP_SPAWN_RATE = 0.25; // Percentage of asteroid spawn chance
 
-    private final Random random = new Random(); // ONLY USED IN this.spawnObjects()
-    private final List<SpaceObject> spaceObjects; // List of all objects
+    private GameRandom random = new LegacyRandom(); // ONLY USED IN this.spawnObjects()
+    private GameRandom spawnRolls = random; // Decides whether each kind of object spawns
+    private GameRandom positions = random; // Chooses the x-coordinate of spawned objects
+    private GameRandom powerUpTypes = random; // Chooses the type of spawned power-ups
+    private GameRandom enemyTypes = random; // Chooses the kind spawned in place of enemies
+    private boolean splitStreams; // Whether the streams above are split from random
+    private SpawnScheduler spawnScheduler; // Replaces the spawn rate rolls when set
+    private final SpawnScheduler.Spawner spawner = (kind, x) -> spawnAt(weighted(kind), x);
+    private SpawnWeights powerUpWeights; // Chooses power-up types when set
+    private SpawnWeights enemyWeights; // Chooses the kind spawned in place of enemies when set
+    private final ObjectList spaceObjects; // List of all objects
+    private final List<SpaceObject> toRemove = new ArrayList<>(); // Reused by checkCollisions()
+    private final Predicate<SpaceObject> offScreen = obj -> !(obj instanceof Ship) && !isInBounds(obj)
+            && unhash(obj);
+    private final Predicate<SpaceObject> removed = obj -> toRemove.contains(obj) && unhash(obj);
+    private final Bitboard[] boards = new Bitboard[SpaceObjectKind.values().length]; // Occupancy by kind
+    private final Bitboard occupancy = new Bitboard(GAME_WIDTH, GAME_HEIGHT); // Occupancy of all but the ship
+    private final List<SpaceObject> movers = new ArrayList<>(); // Tracked objects that may move on any tick
+    private int irregularCount; // Movers other than standard bullets, which may move anywhere
+    private int outOfBoardCount; // Tracked objects currently outside the board
+    private boolean occupancyValid; // Whether the boards match the object positions
+    private int occupancyModCount; // The list modification count the boards were built for
+    private static final ZobristKeys KEYS = new ZobristKeys(SpaceObjectKind.values().length,
+            GAME_WIDTH, GAME_HEIGHT); // Keys for the state hash
+    private long objectHash; // Sum of the keys of tracked objects other than the player's ship
+    private int hashModCount; // The list modification count objectHash was computed for
     private Ship boat; // Core.Ship starts at (5, 10) with 100 health
-    private int lvl; // The current game level
-    private int spawnRate; // The current game spawn rate
+    private LevelProgression progression; // The current game level and spawn rate
     private Logger wrter; // The Logger reference used for logging.
+    private final GameEventBus events = new GameEventBus(); // Hits, pickups, level ups and shots
 
     private PlayerStatsTracker statsTracker = new PlayerStatsTracker();
     private boolean verbose;
@@ -51,9 +91,10 @@ public class GameModel {
      */
 
     public GameModel(Logger wrter) {
-        spaceObjects = new ArrayList<>();
-        lvl = START_LEVEL;
-        spawnRate = START_SPAWN_RATE;
+        spaceObjects = new ObjectList();
+        initOccupancy();
+        initEvents();
+        progression = defaultProgression();
         boat = new Ship();
         this.wrter = wrter;
         this.verbose = false;
@@ -75,15 +116,109 @@ public class GameModel {
      */
     public GameModel(Logger logger,
                      PlayerStatsTracker statsTracker) {
-        spaceObjects = new ArrayList<>();
-        lvl = START_LEVEL;
-        spawnRate = START_SPAWN_RATE;
+        spaceObjects = new ObjectList();
+        initOccupancy();
+        initEvents();
+        progression = defaultProgression();
         boat = new Ship();
         this.wrter = logger;
         this.statsTracker = statsTracker;
     }
 
 
+    /**
+     * Creates a silent copy of the given model, as described by fork().
+     */
+    private GameModel(GameModel source) {
+        spaceObjects = new ObjectList();
+        initOccupancy();
+        wrter = text -> { };
+        statsTracker = source.statsTracker.copy();
+        progression = source.progression.copy();
+        boat = copyShip(source.boat);
+        for (SpaceObject object : source.spaceObjects) {
+            spaceObjects.add(object == source.boat ? boat : copyObject(object));
+        }
+        random = source.random.copy();
+        splitStreams = source.splitStreams;
+        if (splitStreams) {
+            spawnRolls = source.spawnRolls.copy();
+            positions = source.positions.copy();
+            powerUpTypes = source.powerUpTypes.copy();
+            enemyTypes = source.enemyTypes.copy();
+        } else {
+            spawnRolls = random;
+            positions = random;
+            powerUpTypes = random;
+            enemyTypes = random;
+        }
+        spawnScheduler = source.spawnScheduler == null ? null : source.spawnScheduler.copy();
+        powerUpWeights = source.powerUpWeights;
+        enemyWeights = source.enemyWeights;
+    }
+
+    /**
+     * Returns an independent copy of this game, for simulating possible futures.
+     *
+     * The copy has its own ship, objects, level progression, random number generators and
+     * spawn schedule, all in the same state as this game's, so giving both games the same
+     * inputs plays out the same game. Changes to either game do not affect the other.
+     * The copy logs nothing, has no event listeners, and counts shots separately.
+     *
+     * @return a copy of this game.
+     * @throws IllegalStateException if the game holds objects of classes other than the
+     *         standard game objects, which cannot be copied.
+     */
+    public GameModel fork() {
+        return new GameModel(this);
+    }
+
+    private static Ship copyShip(Ship ship) {
+        Ship copy = new Ship(ship.getX(), ship.getY(), ship.getHealth());
+        copy.addScore(ship.getScore());
+        return copy;
+    }
+
+    private static SpaceObject copyObject(SpaceObject object) {
+        int x = object.getX();
+        int y = object.getY();
+        SpaceObject copy = switch (SpaceObjectKind.of(object)) {
+            case SHIP -> copyShip((Ship) object);
+            case BULLET -> new Bullet(x, y);
+            case ASTEROID -> new Asteroid(x, y);
+            case ENEMY -> new Enemy(x, y);
+            case SHIELD_POWER_UP -> new ShieldPowerUp(x, y);
+            case HEALTH_POWER_UP -> new HealthPowerUp(x, y);
+            case OTHER -> null;
+        };
+        if (copy == null || copy.getClass() != object.getClass()) {
+            throw new IllegalStateException("Cannot copy objects of class "
+                    + object.getClass().getSimpleName() + ".");
+        }
+        return copy;
+    }
+
+    private void initEvents() {
+        events.subscribe(EnumSet.of(GameEventType.HIT, GameEventType.PICKUP,
+                GameEventType.LEVEL_UP), this::logEvent);
+    }
+
+    private void logEvent(GameEvent event) {
+        if (verbose) {
+            wrter.log(event.format());
+        }
+    }
+
+    /**
+     * Returns the event bus the model publishes hits, pickups, level ups and shots to.
+     * Events published by the model are delivered before the method publishing them returns.
+     *
+     * @return the game event bus.
+     */
+    public GameEventBus getEventBus() {
+        return events;
+    }
+
     /**
      * Returns the ship instance in the game.
      *
@@ -108,7 +243,31 @@ public class GameModel {
      * @return the current level.
      */
     public int getLevel() {
-        return lvl;
+        return progression.getLevel();
+    }
+
+    /**
+     * Returns the level progression, which can be used to listen for level ups.
+     *
+     * @return the current level progression.
+     */
+    public LevelProgression getProgression() {
+        return progression;
+    }
+
+    /**
+     * Replaces the level progression, for example with one following a different curve.
+     * The game continues from the level and spawn rate of the given progression.
+     *
+     * @param progression the new level progression.
+     */
+    public void setProgression(LevelProgression progression) {
+        this.progression = progression;
+    }
+
+    private static LevelProgression defaultProgression() {
+        return new LevelProgression(ProgressionCurve.linear(SCORE_THRESHOLD), START_LEVEL,
+                START_SPAWN_RATE, SPAWN_RATE_INCREASE, MAX_SPAWN_RATE);
     }
 
     /**
@@ -121,8 +280,89 @@ public class GameModel {
      */
     public void addObject(SpaceObject object) {
         if (object != null) {
-            this.spaceObjects.add(object);
+            track(object);
+        }
+    }
+
+    /**
+     * Returns a bitboard of the cells occupied by any SpaceObject other than the player's ship.
+     *
+     * The returned bitboard is owned by the model and must not be modified.
+     *
+     * @return the occupancy of all tracked objects except the player's ship.
+     */
+    public Bitboard getOccupancy() {
+        ensureOccupancy();
+        return occupancy;
+    }
+
+    /**
+     * Returns a bitboard of the cells occupied by SpaceObjects of the given kind.
+     * The player's ship is not tracked, so it never appears on the SHIP bitboard.
+     *
+     * The returned bitboard is owned by the model and must not be modified.
+     *
+     * @param kind the kind of object.
+     * @return the occupancy of tracked objects of the given kind.
+     */
+    public Bitboard getOccupancy(SpaceObjectKind kind) {
+        ensureOccupancy();
+        return boards[kind.ordinal()];
+    }
+
+    /**
+     * Returns a 64-bit fingerprint of the game state: the kind and position of every tracked
+     * object, and the ship's position, health and score and the level.
+     *
+     * Two games in the same state have the same hash, so comparing hashes tick by tick shows
+     * where replays or parallel simulations of a game diverge. The objects' part of the hash is
+     * updated as the model spawns, moves and removes them, so reading it does not visit the
+     * objects. It is only recomputed in full after the object list has been changed through
+     * getSpaceObjects(). Objects moved other than by updateGame() are not noticed until then.
+     *
+     * @return the hash of the current game state.
+     */
+    public long getStateHash() {
+        ensureHash();
+        long shipPosition = ((long) boat.getX() << 32) | (boat.getY() & 0xFFFFFFFFL);
+        return objectHash
+                ^ ZobristKeys.value(0, shipPosition)
+                ^ ZobristKeys.value(1, boat.getHealth())
+                ^ ZobristKeys.value(2, boat.getScore())
+                ^ ZobristKeys.value(3, progression.getLevel());
+    }
+
+    /**
+     * Recomputes the objects' part of the state hash if the list has changed without the
+     * model updating the hash. Keys are summed rather than XORed, so that two objects of the
+     * same kind in the same cell do not cancel each other out.
+     */
+    private void ensureHash() {
+        if (hashModCount == spaceObjects.modifications()) {
+            return;
+        }
+        long hash = 0;
+        for (SpaceObject object : spaceObjects) {
+            hash += hashKey(object);
+        }
+        objectHash = hash;
+        hashModCount = spaceObjects.modifications();
+    }
+
+    private long hashKey(SpaceObject object) {
+        if (object == boat) {
+            return 0; // The ship is hashed separately, as it moves without the model knowing
         }
+        return KEYS.key(SpaceObjectKind.of(object).ordinal(), object.getX(), object.getY());
+    }
+
+    /**
+     * Removes an object's key from the state hash, as it is removed from the list.
+     * @return true, so it can end a removal predicate.
+     */
+    private boolean unhash(SpaceObject object) {
+        objectHash -= hashKey(object);
+        return true;
     }
 
     /**
@@ -131,20 +371,60 @@ public class GameModel {
      * Objects should be moved by calling .tick(tick) on each object.
      * Objects are considered off-screen if they are at y-coordinate &gt; GAME_HEIGHT.
      *
+     * Objects are grouped by how often they move. Asteroids, enemies and power-ups only move
+     * every DESCENT_INTERVAL ticks, so on other ticks only the remaining objects are ticked:
+     * bullets, and any object that is not exactly one of the standard classes, as a subclass
+     * may move on any tick. Ships have no tick-dependent behaviour and are not ticked.
+     * Off-screen objects are only searched for when the occupancy boards show an object on a
+     * row it is about to leave the board from, or an object that may move anywhere.
+     *
      * @param tick the tick value passed through to the objects tick() method.
      */
     public void updateGame(int tick) {
-        List<SpaceObject> toRemove = new ArrayList<>();
-        for (SpaceObject obj : spaceObjects) {
-            obj.tick(tick); // Move objects downward
-            if (obj instanceof Ship) {
-                continue;
+        ensureOccupancy();
+        boolean descentTick = tick % DescendingEnemy.DESCENT_INTERVAL == 0;
+        if (!descentTick && movers.isEmpty() && outOfBoardCount == 0) {
+            return; // Nothing moves this tick
+        }
+        boolean leavingBoard = outOfBoardCount > 0
+                || irregularCount > 0
+                || boards[SpaceObjectKind.BULLET.ordinal()].isRowOccupied(0)
+                || (descentTick && isDescendingRowOccupied(GAME_HEIGHT - 1));
+
+        ensureHash();
+        if (descentTick) {
+            for (SpaceObject obj : spaceObjects) {
+                if (obj.getClass() != Ship.class) {
+                    moveHashed(obj, tick);
+                }
             }
-            if (!isInBounds(obj)) { // Remove objects that move off-screen
-                toRemove.add(obj);
+        } else {
+            for (SpaceObject obj : movers) {
+                moveHashed(obj, tick);
             }
         }
-        spaceObjects.removeAll(toRemove);
+        occupancyValid = false; // Objects have moved
+
+        if (leavingBoard) { // Remove objects that move off-screen
+            spaceObjects.removeIf(offScreen);
+            hashModCount = spaceObjects.modifications();
+        }
+    }
+
+    /**
+     * Ticks an object, replacing its key in the state hash with the key for its new position.
+     */
+    private void moveHashed(SpaceObject obj, int tick) {
+        long before = hashKey(obj);
+        obj.tick(tick);
+        objectHash += hashKey(obj) - before;
+    }
+
+    private boolean isDescendingRowOccupied(int y) {
+        return boards[SpaceObjectKind.ASTEROID.ordinal()].isRowOccupied(y)
+                || boards[SpaceObjectKind.ENEMY.ordinal()].isRowOccupied(y)
+                || boards[SpaceObjectKind.SHIELD_POWER_UP.ordinal()].isRowOccupied(y)
+                || boards[SpaceObjectKind.HEALTH_POWER_UP.ordinal()].isRowOccupied(y);
     }
 
     /**
@@ -159,11 +439,22 @@ public class GameModel {
      * 6. If spawning a power-up, spawn at x-coordinate = random.nextInt(GAME_WIDTH)
      * 7. If spawning a power-up, spawn a ShieldPowerUp if random.nextBoolean(), else a HealthPowerUp.
      * Failure to match random calls correctly will result in failed tests.
+     * If the model uses separate streams (see setRandomStreams), the spawn checks, the
+     * x-coordinates, the power-up types and the weighted enemy kinds are each drawn from
+     * their own stream instead.
      * Objects spawn at y = 0 (top of the screen).
      * Objects may not spawn if there is a ship at the intended spawn location.
      * This should NOT impact calls to random.
+     * If a SpawnScheduler has been set, it decides what spawns instead of the spawn rate.
+     * If power-up or enemy weights have been set, the type of each spawned power-up or enemy
+     * is drawn from them instead, in place of the random.nextBoolean() call for power-ups.
      */
     public void spawnObjects() {
+        if (spawnScheduler != null) {
+            spawnScheduler.spawn(progression.getLevel(), spawnRolls, positions, GAME_WIDTH,
+                    spawner);
+            return;
+        }
         // Spawn asteroids with a chance determined by spawnRate
         spawnAsteroid();
         spawnEnemy();
@@ -171,38 +462,60 @@ public class GameModel {
     }
 
     private void spawnAsteroid() {
-        if (random.nextInt(100) < spawnRate) {
-            int x = random.nextInt(GAME_WIDTH); // Random x-coordinate
-            int y = 0; // Spawn at the top of the screen
-            if (isSpaceOccupied(x, y)) {
-                spaceObjects.add(new Asteroid(x, y));
-            }
+        if (spawnRolls.nextInt(100) < progression.getSpawnRate()) {
+            int x = positions.nextInt(GAME_WIDTH); // Random x-coordinate
+            spawnAt(SpaceObjectKind.ASTEROID, x);
         }
     }
 
     private void spawnEnemy() {
-        if (random.nextInt(100) < spawnRate * ENEMY_SPAWN_RATE) {
-            int x = random.nextInt(GAME_WIDTH);
-            int y = 0;
-            if (isSpaceOccupied(x, y)) {
-                spaceObjects.add(new Enemy(x, y));
-            }
+        if (spawnRolls.nextInt(100) < progression.getSpawnRate() * ENEMY_SPAWN_RATE) {
+            int x = positions.nextInt(GAME_WIDTH);
+            spawnAt(weighted(SpaceObjectKind.ENEMY), x);
         }
     }
 
     private void spawnPowerUp() {
-        if (random.nextInt(100) < spawnRate * POWER_UP_SPAWN_RATE) {
-            int x = random.nextInt(GAME_WIDTH);
-            int y = 0;
-            PowerUp powerUp = random.nextBoolean() ? new ShieldPowerUp(x, y) :
-                    new HealthPowerUp(x, y);
-            if (isSpaceOccupied(x, y)) {
-                spaceObjects.add(powerUp);
+        if (spawnRolls.nextInt(100) < progression.getSpawnRate() * POWER_UP_SPAWN_RATE) {
+            int x = positions.nextInt(GAME_WIDTH);
+            SpaceObjectKind kind = SpaceObjectKind.SHIELD_POWER_UP;
+            if (powerUpWeights == null && !powerUpTypes.nextBoolean()) {
+                kind = SpaceObjectKind.HEALTH_POWER_UP; // Weights, if set, choose in weighted()
             }
+            spawnAt(weighted(kind), x);
         }
     }
 
+    /**
+     * Returns the kind to spawn for a requested kind: enemies and power-ups are replaced by a
+     * kind drawn from the configured weights, if any.
+     */
+    private SpaceObjectKind weighted(SpaceObjectKind kind) {
+        if (kind == SpaceObjectKind.ENEMY && enemyWeights != null) {
+            return enemyWeights.sample(progression.getLevel(), enemyTypes);
+        } else if (kind.isPowerUp() && powerUpWeights != null) {
+            return powerUpWeights.sample(progression.getLevel(), powerUpTypes);
+        }
+        return kind;
+    }
 
+    /**
+     * Spawns an object of the given kind at the top of the screen, unless the cell is taken.
+     */
+    private void spawnAt(SpaceObjectKind kind, int x) {
+        int y = 0; // Spawn at the top of the screen
+        if (!isSpaceOccupied(x, y)) {
+            return;
+        }
+        switch (kind) {
+            case ASTEROID -> track(new Asteroid(x, y));
+            case ENEMY -> track(new Enemy(x, y));
+            case SHIELD_POWER_UP -> track(new ShieldPowerUp(x, y));
+            case HEALTH_POWER_UP -> track(new HealthPowerUp(x, y));
+            default -> throw new IllegalArgumentException("Cannot spawn objects of kind " + kind + ".");
+        }
+        SpawnEvent.emit(kind, x, y, progression.getLevel());
+    }
 
     private boolean isSpaceOccupied(int x, int y) {
         return !isCollidingWithExistingSpaceObjects(x, y) && !isCollidingWithShip(x, y);
@@ -220,12 +533,118 @@ public class GameModel {
     }
 
     private boolean isCollidingWithExistingSpaceObjects(int x, int y) {
-        for (SpaceObject object : spaceObjects) {
-            if ((object.getX() == x) && (object.getY() == y)) {
-                return true;
+        if (!isInBoard(x, y)) {
+            for (SpaceObject object : spaceObjects) {
+                if ((object.getX() == x) && (object.getY() == y)) {
+                    return true;
+                }
             }
+            return false;
+        }
+        ensureOccupancy();
+        return occupancy.get(x, y);
+    }
+
+    private static boolean isInBoard(int x, int y) {
+        return x >= 0 && x < GAME_WIDTH && y >= 0 && y < GAME_HEIGHT;
+    }
+
+    private void initOccupancy() {
+        for (SpaceObjectKind kind : SpaceObjectKind.values()) {
+            boards[kind.ordinal()] = new Bitboard(GAME_WIDTH, GAME_HEIGHT);
+        }
+    }
+
+    /**
+     * Adds an object to the list, marking it on the occupancy boards if they are up to date.
+     */
+    private void track(SpaceObject object) {
+        boolean current = isOccupancyCurrent();
+        boolean hashed = hashModCount == spaceObjects.modifications();
+        spaceObjects.add(object);
+        if (current) {
+            markOccupancy(object);
+            occupancyModCount = spaceObjects.modifications();
+        }
+        if (hashed) {
+            objectHash += hashKey(object);
+            hashModCount = spaceObjects.modifications();
+        }
+    }
+
+    private boolean isOccupancyCurrent() {
+        return occupancyValid && occupancyModCount == spaceObjects.modifications();
+    }
+
+    /**
+     * Rebuilds the occupancy boards if objects have moved or the list has changed since they
+     * were last built. The list may be changed through getSpaceObjects(), so its modification
+     * count is compared rather than relying on the model's own changes.
+     */
+    private void ensureOccupancy() {
+        if (isOccupancyCurrent()) {
+            return;
+        }
+        for (Bitboard board : boards) {
+            board.clear();
+        }
+        occupancy.clear();
+        movers.clear();
+        irregularCount = 0;
+        outOfBoardCount = 0;
+        for (SpaceObject object : spaceObjects) {
+            markOccupancy(object);
+        }
+        occupancyValid = true;
+        occupancyModCount = spaceObjects.modifications();
+    }
+
+    /**
+     * Rebuilds the occupancy boards from the objects' current positions.
+     */
+    private void refreshOccupancy() {
+        occupancyValid = false;
+        ensureOccupancy();
+    }
+
+    private void markOccupancy(SpaceObject object) {
+        if (object == boat) {
+            return; // The player's ship moves without the model knowing, so it is checked directly
+        }
+        Class<?> type = object.getClass();
+        if (type == Bullet.class) {
+            movers.add(object);
+        } else if (!isDescentOnly(type) && type != Ship.class) {
+            movers.add(object);
+            irregularCount++;
+        }
+        SpaceObjectKind kind = SpaceObjectKind.of(object);
+        if (!isInBoard(object.getX(), object.getY())) {
+            outOfBoardCount++;
         }
-        return false;
+        boards[kind.ordinal()].set(object.getX(), object.getY());
+        occupancy.set(object.getX(), object.getY());
+    }
+
+    /**
+     * Returns whether objects of exactly the given class only move on descent ticks.
+     * Subclasses may override tick(), so they are not assumed to.
+     */
+    private static boolean isDescentOnly(Class<?> type) {
+        return type == Asteroid.class || type == Enemy.class
+                || type == ShieldPowerUp.class || type == HealthPowerUp.class;
+    }
+
+    private boolean isOccupiedBy(SpaceObjectKind kind, int x, int y) {
+        return boards[kind.ordinal()].get(x, y);
+    }
+
+    private boolean isShipTargetAt(int x, int y) {
+        return isOccupiedBy(SpaceObjectKind.ASTEROID, x, y)
+                || isOccupiedBy(SpaceObjectKind.ENEMY, x, y)
+                || isOccupiedBy(SpaceObjectKind.SHIELD_POWER_UP, x, y)
+                || isOccupiedBy(SpaceObjectKind.HEALTH_POWER_UP, x, y)
+                || isOccupiedBy(SpaceObjectKind.OTHER, x, y);
     }
 
     /**
@@ -234,35 +653,35 @@ public class GameModel {
      *
      * To level up, the score must not be less than the current level multiplied by the score threshold.
      * To increase the level the spawn rate should increase by SPAWN_RATE_INCREASE, and the level number should increase by 1.
+     * The spawn rate never exceeds MAX_SPAWN_RATE. A progression set with setProgression()
+     * may use a different score curve; its listeners are notified of each level up.
      * If the level is increased, log the following:
      * "Level Up! Welcome to Level {new level}. Spawn rate increased to {new spawn rate}%."
      * @hint score is not stored in the GameModel.
      */
     public void levelUp() {
-        if (boat.getScore() < lvl * SCORE_THRESHOLD) {
+        if (!progression.update(boat.getScore())) {
             return;
         }
-        lvl++;
-        spawnRate += SPAWN_RATE_INCREASE;
-
-        if (this.verbose) {
-            wrter.log("Level Up! Welcome to Level " + lvl + ". Spawn rate increased to "
-                    + spawnRate + "%.");
-        }
-
+        LevelUpEvent.emit(progression.getLevel(), progression.getSpawnRate(), boat.getScore());
+        events.publish(GameEventType.LEVEL_UP, SpaceObjectKind.SHIP, boat,
+                progression.getLevel(), progression.getSpawnRate());
+        events.flush();
     }
 
     /**
      * Fires a bullet from the ship's current position.
      *
      * Creates a new bullet at the coordinates the ship occupies.
-     * Logs "Core.Bullet fired!"
+     * Publishes a FIRE event, which is not logged.
      */
     public void fireBullet() {
         int bulletX = boat.getX();
         int bulletY = boat.getY(); // Core.Bullet starts just above the ship
-        spaceObjects.add(new Bullet(bulletX, bulletY));
-        //wrter.log("Core.Bullet fired!");
+        Bullet bullet = new Bullet(bulletX, bulletY);
+        track(bullet);
+        events.publish(GameEventType.FIRE, SpaceObjectKind.BULLET, bullet, bulletX, bulletY);
+        events.flush();
     }
 
     /**
@@ -280,82 +699,189 @@ public class GameModel {
      *
      * Then check bullet collision:
      * If a bullet collides with an enemy, remove both the enemy and the bullet. No logging required.
+     *
+     * Objects may have been moved, or replaced in the list, without the model knowing, so the
+     * occupancy boards are rebuilt before they are used to find colliding cells.
      */
     public void checkCollisions() {
-        List<SpaceObject> toRemove = new ArrayList<>();
+        refreshOccupancy();
+        toRemove.clear();
 
         handleShipCollisions(toRemove);
         handleBulletCollisions(toRemove);
 
-        spaceObjects.removeAll(toRemove);
+        if (!toRemove.isEmpty()) {
+            ensureHash();
+            spaceObjects.removeIf(removed);
+            hashModCount = spaceObjects.modifications();
+            toRemove.clear();
+        }
+        events.flush();
     }
 
     private void handleShipCollisions(List<SpaceObject> toRemove) {
+        int shipX = boat.getX();
+        int shipY = boat.getY();
+        if (isInBoard(shipX, shipY) && !isShipTargetAt(shipX, shipY)) {
+            return; // Nothing the ship can collide with shares its cell
+        }
         for (SpaceObject obj : spaceObjects) {
             if (obj instanceof Ship || obj instanceof Bullet) {
                 continue;
             }
 
             if (isCollidingWithShip(obj.getX(), obj.getY())) {
+                int damage = 0;
                 if (obj instanceof PowerUp powerUp) {
                     powerUp.applyEffect(boat);
-                    if (verbose) {
-                        wrter.log("PowerUp collected: " + obj.render());
-                    }
+                    events.publish(GameEventType.PICKUP, obj, 0, 0);
                 } else if (obj instanceof Asteroid) {
+                    damage = ASTEROID_DAMAGE;
                     boat.takeDamage(ASTEROID_DAMAGE);
-                    if (verbose) {
-                        wrter.log("Hit by " + obj.render()
-                                + "! Health reduced by " + ASTEROID_DAMAGE + ".");
-                    }
+                    events.publish(GameEventType.HIT, obj, ASTEROID_DAMAGE, 0);
                 } else if (obj instanceof Enemy) {
+                    damage = ENEMY_DAMAGE;
                     boat.takeDamage(ENEMY_DAMAGE);
-                    if (verbose) {
-                        wrter.log("Hit by " + obj.render()
-                                + "! Health reduced by " + ENEMY_DAMAGE + ".");
-                    }
+                    events.publish(GameEventType.HIT, obj, ENEMY_DAMAGE, 0);
                 }
+                CollisionEvent.emit(SpaceObjectKind.SHIP, SpaceObjectKind.of(obj), shipX, shipY, damage);
                 toRemove.add(obj);
             }
         }
     }
 
     private void handleBulletCollisions(List<SpaceObject> toRemove) {
+        Bitboard bullets = boards[SpaceObjectKind.BULLET.ordinal()];
+        boolean enemyHits = bullets.intersects(boards[SpaceObjectKind.ENEMY.ordinal()]);
+        boolean asteroidHits = bullets.intersects(boards[SpaceObjectKind.ASTEROID.ordinal()]);
+        if (!enemyHits && !asteroidHits) {
+            return; // No bullet shares a cell with an enemy or asteroid
+        }
         for (SpaceObject obj : spaceObjects) {
             if (!(obj instanceof Bullet)) {
                 continue;
             }
 
-            for (SpaceObject other : spaceObjects) {
-                if (other instanceof Enemy
-                        && obj.getX() == other.getX() && obj.getY() == other.getY()) {
-                    statsTracker.recordShotHit();
-                    toRemove.add(obj);
-                    toRemove.add(other);
-                    break;
+            if (enemyHits && isOccupiedBy(SpaceObjectKind.ENEMY, obj.getX(), obj.getY())) {
+                for (SpaceObject other : spaceObjects) {
+                    if (other instanceof Enemy
+                            && obj.getX() == other.getX() && obj.getY() == other.getY()) {
+                        statsTracker.recordShotHit();
+                        CollisionEvent.emit(SpaceObjectKind.BULLET, SpaceObjectKind.ENEMY,
+                                obj.getX(), obj.getY(), 0);
+                        toRemove.add(obj);
+                        toRemove.add(other);
+                        break;
+                    }
                 }
             }
 
-            for (SpaceObject other : spaceObjects) {
-                if (other instanceof Asteroid
-                        && obj.getX() == other.getX() && obj.getY() == other.getY()) {
-                    toRemove.add(obj);
-                    break;
+            if (asteroidHits && isOccupiedBy(SpaceObjectKind.ASTEROID, obj.getX(), obj.getY())) {
+                for (SpaceObject other : spaceObjects) {
+                    if (other instanceof Asteroid
+                            && obj.getX() == other.getX() && obj.getY() == other.getY()) {
+                        CollisionEvent.emit(SpaceObjectKind.BULLET, SpaceObjectKind.ASTEROID,
+                                obj.getX(), obj.getY(), 0);
+                        toRemove.add(obj);
+                        break;
+                    }
                 }
             }
         }
     }
 
     /**
-     * Sets the seed of the Random instance created in the constructor using .setSeed().
+     * Sets the seed of the random number generator used to spawn objects using .setSeed().
      *
      * This method should NEVER be called.
      *
-     * @param seed to be set for the Random instance
+     * @param seed to be set for the random number generator
      * @provided
      */
     public void setRandomSeed(int seed) {
         this.random.setSeed(seed);
+        if (splitStreams) {
+            splitStreams();
+        }
+    }
+
+    /**
+     * Replaces the random number generator used to spawn objects.
+     * All draws are taken from the given generator in the order documented by spawnObjects(),
+     * so a LegacyRandom reproduces the sequences of a java.util.Random with the same seed.
+     *
+     * @param random the generator to draw from.
+     */
+    public void setRandom(GameRandom random) {
+        this.random = random;
+        this.spawnRolls = random;
+        this.positions = random;
+        this.powerUpTypes = random;
+        this.enemyTypes = random;
+        this.splitStreams = false;
+    }
+
+    /**
+     * Replaces the random number generator used to spawn objects with separate streams
+     * split from the given root: one for spawn checks, one for x-coordinates, one for
+     * power-up types and one for the kinds chosen by enemy weights. A draw from one stream never shifts the others, so changing how one
+     * kind of object spawns leaves the rest of a seeded game unchanged.
+     * Reseeding with setRandomSeed() reseeds the root and splits the streams again.
+     *
+     * @param root the generator the streams are split from.
+     */
+    public void setRandomStreams(GameRandom root) {
+        this.random = root;
+        this.splitStreams = true;
+        splitStreams();
+    }
+
+    /**
+     * Sets the scheduler that decides what spawns each tick, replacing the spawn rate rolls.
+     * The scheduler rolls with the spawn check stream and places objects with the
+     * x-coordinate stream. Passing null restores the spawn rate rolls.
+     *
+     * @param spawnScheduler the scheduler to use, or null for the default spawn rates.
+     */
+    public void setSpawnScheduler(SpawnScheduler spawnScheduler) {
+        this.spawnScheduler = spawnScheduler;
+    }
+
+    /**
+     * Sets the per-level weights used to choose the type of each spawned power-up, in place
+     * of an even choice between shields and health. Passing null restores the even choice.
+     *
+     * @param powerUpWeights the power-up weights, or null.
+     * @throws IllegalArgumentException if the weights include kinds that are not power-ups.
+     */
+    public void setPowerUpWeights(SpawnWeights powerUpWeights) {
+        if (powerUpWeights != null && !powerUpWeights.allMatch(SpaceObjectKind::isPowerUp)) {
+            throw new IllegalArgumentException("Power-up weights may only include power-ups.");
+        }
+        this.powerUpWeights = powerUpWeights;
+    }
+
+    /**
+     * Sets the per-level weights used to choose the kind of each object spawned by an enemy
+     * spawn, which may be an enemy or an asteroid. Passing null always spawns enemies.
+     *
+     * @param enemyWeights the enemy weights, or null.
+     * @throws IllegalArgumentException if the weights include kinds other than enemies and
+     *         asteroids.
+     */
+    public void setEnemyWeights(SpawnWeights enemyWeights) {
+        if (enemyWeights != null && !enemyWeights.allMatch(
+                kind -> kind == SpaceObjectKind.ENEMY || kind == SpaceObjectKind.ASTEROID)) {
+            throw new IllegalArgumentException("Enemy weights may only include enemies and asteroids.");
+        }
+        this.enemyWeights = enemyWeights;
+    }
+
+    private void splitStreams() {
+        spawnRolls = random.split();
+        positions = random.split();
+        powerUpTypes = random.split();
+        enemyTypes = random.split();
     }
 
 
@@ -410,5 +936,24 @@ public class GameModel {
         return true;
     }
 
+    /**
+     * An ArrayList that exposes its modification count, so the model can tell when its
+     * occupancy boards no longer match the list. Unlike modCount, the count includes objects
+     * replaced with set().
+     */
+    private static class ObjectList extends ArrayList<SpaceObject> {
+        private static final long serialVersionUID = 1L;
+
+        private int replacements;
+
+        @Override
+        public SpaceObject set(int index, SpaceObject element) {
+            replacements++;
+            return super.set(index, element);
+        }
 
+        int modifications() {
+            return modCount + replacements;
+        }
+    }
 }
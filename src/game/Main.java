@@ -1,22 +1,93 @@
 package game;
 
 import game.achievements.*;
+import game.spawn.SpawnConfig;
+import game.ui.UI;
 import game.ui.gui.GUI;
+import game.ui.spectator.SpectatorStream;
+import game.ui.spectator.SpectatorUI;
+import game.ui.terminal.TerminalUI;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
 
 /**
  * Entry point for the Space Shooter game.
  * @provided
  */
 public class Main {
+    private static final String USAGE =
+            "Usage: java game.Main [--terminal] [--spectate PORT] [--spawns FILE]";
+
     /**
      * The game entry point.
-     * @param args command-line arguments (unused)
+     * Plays in a window by default. Accepts the options:
+     * "--terminal" to play in the terminal instead, and
+     * "--spectate PORT" to stream the game to spectators connecting to PORT on this machine, and
+     * "--spawns FILE" to spawn objects as configured in FILE (see SpawnConfig).
+     * Any other argument, or an option missing its value, prints a usage message and exits
+     * with status 2.
+     * @param args command-line arguments
+     * @throws IOException if the spectator port cannot be opened or the spawn file cannot be read
      */
-    public static void main(String[] args) {
-        GameController gameController = new GameController(new GUI(), getAchievementManager());
+    public static void main(String[] args) throws IOException {
+        boolean terminal = false;
+        int spectatePort = -1;
+        String spawns = null;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--terminal")) {
+                terminal = true;
+            } else if (args[i].equals("--spectate")) {
+                spectatePort = parsePort(valueOf(args, i++));
+            } else if (args[i].equals("--spawns")) {
+                spawns = valueOf(args, i++);
+            } else {
+                exitWithUsage("Unknown argument: " + args[i]);
+            }
+        }
+        UI ui = terminal ? new TerminalUI() : new GUI();
+        if (spectatePort >= 0) {
+            ui = new SpectatorUI(ui, SpectatorStream.listen(
+                    new InetSocketAddress(InetAddress.getLoopbackAddress(), spectatePort)));
+        }
+        GameController gameController = new GameController(ui, getAchievementManager());
+        if (spawns != null) {
+            gameController.getModel().setSpawnScheduler(SpawnConfig.load(spawns));
+        }
         gameController.startGame();
     }
 
+    /**
+     * Returns the value following the option at the given index, exiting with a usage
+     * message if there is none.
+     */
+    private static String valueOf(String[] args, int option) {
+        if (option + 1 >= args.length) {
+            exitWithUsage("Missing value for " + args[option]);
+        }
+        return args[option + 1];
+    }
+
+    private static int parsePort(String value) {
+        try {
+            int port = Integer.parseInt(value);
+            if (port >= 0 && port <= 65535) {
+                return port;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        exitWithUsage("Invalid port: " + value);
+        return -1;
+    }
+
+    private static void exitWithUsage(String problem) {
+        System.err.println(problem);
+        System.err.println(USAGE);
+        System.exit(2);
+    }
+
     /**
      * Initialises and returns a new AchievementManager containing standard
      * game achievements.
@@ -1,5 +1,7 @@
 package game.achievements;
 
+import game.jfr.AchievementMasteredEvent;
+
 import java.util.*;
 
 /**
@@ -83,6 +85,7 @@ public class AchievementManager {
                     && !loggedAchievements.contains(achievement.getName())) {
                 achievementFile.save("Mastered: " + achievement.getName());
                 loggedAchievements.add(achievement.getName());
+                AchievementMasteredEvent.emit(achievement.getName(), achievement.getCurrentTier());
             }
         }
     }
@@ -1,5 +1,7 @@
 package game.achievements;
 
+import game.jfr.FileWriteEvent;
+
 import java.io.*;
 import java.util.ArrayList;
 import java.util.List;
@@ -30,12 +32,18 @@ public class FileHandler implements AchievementFile {
 
     @Override
     public void save(String data) {
+        FileWriteEvent event = FileWriteEvent.start(fileLocation,
+                data.length() + System.lineSeparator().length());
+        boolean succeeded = false;
         try (BufferedWriter writer = new BufferedWriter(new FileWriter(fileLocation, true))) {
             writer.write(data);
             writer.newLine();
+            succeeded = true;
         } catch (IOException e) {
             System.err.println("Error writing to file: " + fileLocation);
             e.printStackTrace();
+        } finally {
+            event.finish(succeeded);
         }
     }
 
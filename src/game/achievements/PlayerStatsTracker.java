@@ -1,43 +1,93 @@
 package game.achievements;
 
+import game.utility.GameClock;
+import game.utility.SystemClock;
+
+import java.util.concurrent.atomic.AtomicLong;
+
 /**
  * Tracks player statistics: shots fired, shots hit, accuracy, and elapsed time.
+ *
+ * Shot counters may be updated concurrently from the input path (shots fired) and the
+ * simulation path (shots hit). Both counters are packed into a single atomic long, with
+ * shots fired in the upper 32 bits and shots hit in the lower 32 bits, so every update is
+ * one lock-free add and every read observes both counters from the same instant.
  */
 public class PlayerStatsTracker {
 
+    private static final long SHOT_FIRED = 1L << 32;
+    private static final long SHOT_HIT = 1L;
+    private static final long HIT_MASK = 0xFFFFFFFFL;
+
+    private final GameClock clock;
     private final long startTime;
-    private int shotsFired;
-    private int shotsHit;
+    private final AtomicLong shots = new AtomicLong();
 
     /**
-     * Constructs a tracker with the current system time as start time.
+     * Constructs a tracker timed by a monotonic system clock, starting now.
      */
     public PlayerStatsTracker() {
-        this(System.currentTimeMillis());
+        this(new SystemClock());
     }
 
     /**
      * Constructs a tracker with a custom start time.
+     * The start time is compared against System.currentTimeMillis().
      * @param startTime the start time in milliseconds.
      */
     public PlayerStatsTracker(long startTime) {
+        this(startTime, System::currentTimeMillis);
+    }
+
+    /**
+     * Constructs a tracker timed by the given clock, starting at the clock's current time.
+     * @param clock the clock used to measure elapsed time.
+     */
+    public PlayerStatsTracker(GameClock clock) {
+        this(clock.millis(), clock);
+    }
+
+    /**
+     * Constructs a tracker timed by the given clock, with a custom start time.
+     * @param startTime the start time in milliseconds, as measured by the clock.
+     * @param clock the clock used to measure elapsed time.
+     */
+    public PlayerStatsTracker(long startTime, GameClock clock) {
         this.startTime = startTime;
-        this.shotsFired = 0;
-        this.shotsHit = 0;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the clock used to measure elapsed time.
+     * @return the clock used by this tracker
+     */
+    public GameClock getClock() {
+        return clock;
+    }
+
+    /**
+     * Returns a tracker with the same start time, clock and shot counts as this one.
+     * Shots recorded afterwards by either tracker do not affect the other.
+     * @return a copy of this tracker
+     */
+    public PlayerStatsTracker copy() {
+        PlayerStatsTracker copy = new PlayerStatsTracker(startTime, clock);
+        copy.shots.set(shots.get());
+        return copy;
     }
 
     /**
      * Records the player firing one shot.
      */
     public void recordShotFired() {
-        shotsFired++;
+        shots.getAndAdd(SHOT_FIRED);
     }
 
     /**
      * Records the player hitting a target.
      */
     public void recordShotHit() {
-        shotsHit++;
+        shots.getAndAdd(SHOT_HIT);
     }
 
     /**
@@ -45,7 +95,7 @@ public class PlayerStatsTracker {
      * @return total shots fired
      */
     public int getShotsFired() {
-        return shotsFired;
+        return shotsFired(shots.get());
     }
 
     /**
@@ -53,7 +103,7 @@ public class PlayerStatsTracker {
      * @return total shots hit
      */
     public int getShotsHit() {
-        return shotsHit;
+        return shotsHit(shots.get());
     }
 
     /**
@@ -61,17 +111,29 @@ public class PlayerStatsTracker {
      * @return elapsed time in seconds
      */
     public long getElapsedSeconds() {
-        return (System.currentTimeMillis() - startTime) / 1000;
+        return (clock.millis() - startTime) / 1000;
     }
 
     /**
      * Returns the player's shooting accuracy.
+     * Shots fired and shots hit are read from a single snapshot, so the result is consistent
+     * even while other threads are recording shots.
      * @return accuracy as a decimal (e.g., 0.75 for 75%)
      */
     public double getAccuracy() {
+        long snapshot = shots.get();
+        int shotsFired = shotsFired(snapshot);
         if (shotsFired == 0) {
             return 0.0;
         }
-        return (double) shotsHit / shotsFired;
+        return (double) shotsHit(snapshot) / shotsFired;
+    }
+
+    private static int shotsFired(long snapshot) {
+        return (int) (snapshot >>> 32);
+    }
+
+    private static int shotsHit(long snapshot) {
+        return (int) (snapshot & HIT_MASK);
     }
-}
\ No newline at end of file
+}
@@ -2,6 +2,9 @@ package game.core;
 
 import game.exceptions.BoundaryExceededException;
 import game.utility.Direction;
+
+import java.util.Locale;
+
 import static game.GameModel.*;
 
 /**
@@ -29,6 +32,8 @@ public abstract class Controllable extends ObjectWithPosition {
      * y-coordinate &lt; 0<br>
      * <p>
      * Argument given to the exception is "Cannot move {up/down/left/right}. Out of bounds!" depending on the direction.
+     * <p>
+     * This is the strict form of tryMove(), for callers that treat leaving the board as an error.
      *
      * @param direction the given direction.
      *
@@ -36,31 +41,48 @@ public abstract class Controllable extends ObjectWithPosition {
      * @hint game dimensions are stored in the model.
      */
     public void move(Direction direction) throws BoundaryExceededException {
+        if (!tryMove(direction)) {
+            throw new BoundaryExceededException(
+                    "Cannot move " + direction.name().toLowerCase(Locale.ROOT) + ". Out of bounds!");
+        }
+    }
+
+    /**
+     * Moves the Controllable by one in the direction given, unless the move would take it outside
+     * the game boundaries, in which case it stays where it is.<br>
+     * Unlike move(), hitting a boundary is reported through the result rather than an exception,
+     * so repeatedly pushing against a wall costs no more than a normal move.
+     *
+     * @param direction the given direction.
+     * @return true if the Controllable moved, false if the move was blocked by a boundary.
+     */
+    public boolean tryMove(Direction direction) {
         switch (direction) {
             case UP -> {
                 if (y <= 0) {
-                    throw new BoundaryExceededException("Cannot move up. Out of bounds!");
+                    return false;
                 }
                 y--;
             }
             case DOWN -> {
                 if (y + 1 >= GAME_HEIGHT) {
-                    throw new BoundaryExceededException("Cannot move down. Out of bounds!");
+                    return false;
                 }
                 y++;
             }
             case LEFT -> {
                 if (x <= 0) {
-                    throw new BoundaryExceededException("Cannot move left. Out of bounds!");
+                    return false;
                 }
                 x--;
             }
             case RIGHT -> {
                 if (x + 1 >= GAME_WIDTH) {
-                    throw new BoundaryExceededException("Cannot move right. Out of bounds!");
+                    return false;
                 }
                 x++;
             }
         }
+        return true;
     }
 }
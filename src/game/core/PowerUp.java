@@ -22,7 +22,7 @@ public abstract class PowerUp extends ObjectWithPosition implements PowerUpEffec
      */
     @Override
     public void tick(int tick) {
-        if (tick % 10 == 0) {
+        if (tick % DescendingEnemy.DESCENT_INTERVAL == 0) {
             y = this.y + 1;
         }
     }
@@ -0,0 +1,59 @@
+package game.core;
+
+/**
+ * Enum representing the kinds of SpaceObject in the game.
+ * Each kind carries the text representation its objects render with, for text-based
+ * renderers that work from kinds rather than objects.
+ */
+public enum SpaceObjectKind {
+    SHIP("🚀"), BULLET("🔺"), ASTEROID("🌑"), ENEMY("👾"),
+    SHIELD_POWER_UP("💠"), HEALTH_POWER_UP("❤️"), OTHER("?");
+
+    private final String text;
+
+    SpaceObjectKind(String text) {
+        this.text = text;
+    }
+
+    /**
+     * Returns the text representation of objects of this kind, as returned by their render().
+     *
+     * @return the text representation.
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Returns the kind of the given SpaceObject.
+     *
+     * @param object the SpaceObject to classify.
+     * @return the kind of the object, or OTHER if it is not one of the standard game objects.
+     * @requires object is not null
+     */
+    public static SpaceObjectKind of(SpaceObject object) {
+        if (object instanceof Bullet) {
+            return BULLET;
+        } else if (object instanceof Asteroid) {
+            return ASTEROID;
+        } else if (object instanceof Enemy) {
+            return ENEMY;
+        } else if (object instanceof ShieldPowerUp) {
+            return SHIELD_POWER_UP;
+        } else if (object instanceof HealthPowerUp) {
+            return HEALTH_POWER_UP;
+        } else if (object instanceof Ship) {
+            return SHIP;
+        }
+        return OTHER;
+    }
+
+    /**
+     * Returns whether objects of this kind are power-ups.
+     *
+     * @return true for power-up kinds.
+     */
+    public boolean isPowerUp() {
+        return this == SHIELD_POWER_UP || this == HEALTH_POWER_UP;
+    }
+}
@@ -0,0 +1,106 @@
+package game.events;
+
+import game.core.SpaceObject;
+import game.core.SpaceObjectKind;
+
+/**
+ * An event published on a GameEventBus.
+ *
+ * Events carry primitive values rather than text, and are reused by the bus once delivered,
+ * so a listener must copy anything it needs before returning. Text is only built when a
+ * listener calls format().
+ */
+public class GameEvent {
+
+    private GameEventType type;
+    private SpaceObjectKind kind;
+    private SpaceObject object;
+    private int first;
+    private int second;
+
+    void set(GameEventType type, SpaceObjectKind kind, SpaceObject object, int first, int second) {
+        this.type = type;
+        this.kind = kind;
+        this.object = object;
+        this.first = first;
+        this.second = second;
+    }
+
+    void clear() {
+        this.object = null;
+    }
+
+    /**
+     * Returns the type of this event.
+     *
+     * @return the event type.
+     */
+    public GameEventType getType() {
+        return type;
+    }
+
+    /**
+     * Returns the kind of the object this event is about.
+     *
+     * @return the object kind.
+     */
+    public SpaceObjectKind getKind() {
+        return kind;
+    }
+
+    /**
+     * Returns the object this event is about.
+     *
+     * @return the object.
+     */
+    public SpaceObject getObject() {
+        return object;
+    }
+
+    /**
+     * Returns the first value of this event, as described by its type.
+     *
+     * @return the first value.
+     */
+    public int getFirst() {
+        return first;
+    }
+
+    /**
+     * Returns the second value of this event, as described by its type.
+     *
+     * @return the second value.
+     */
+    public int getSecond() {
+        return second;
+    }
+
+    /**
+     * Formats this event as the line the game logs for it.
+     *
+     * @return the log text of this event.
+     */
+    public String format() {
+        return switch (type) {
+            case HIT -> "Hit by " + text() + "! Health reduced by " + first + ".";
+            case PICKUP -> "PowerUp collected: " + text();
+            case LEVEL_UP -> "Level Up! Welcome to Level " + first + ". Spawn rate increased to "
+                    + second + "%.";
+            case MOVE -> "Ship moved to (" + first + ", " + second + ")";
+            case FIRE -> "Bullet fired!";
+        };
+    }
+
+    /**
+     * Returns the text representation of the object, rendering it only when the kind does
+     * not determine the text.
+     */
+    private String text() {
+        return kind == SpaceObjectKind.OTHER ? object.render().toString() : kind.getText();
+    }
+
+    @Override
+    public String toString() {
+        return format();
+    }
+}
@@ -0,0 +1,158 @@
+package game.events;
+
+import game.core.SpaceObject;
+import game.core.SpaceObjectKind;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Collects game events in a preallocated ring buffer and delivers them to subscribers.
+ *
+ * Publishing copies the event's values into the next free slot, so it allocates nothing and
+ * does no formatting. Events of a type nobody subscribes to are dropped straight away, and
+ * the buffer is only allocated once an event is published to a subscriber.
+ * Pending events are delivered in order by flush(), or one at a time if the buffer fills
+ * up first. The bus is not thread-safe and is meant to be used from the game thread.
+ */
+public class GameEventBus {
+
+    /**
+     * The default number of events the buffer holds before delivering.
+     */
+    public static final int DEFAULT_CAPACITY = 64;
+
+    private final int capacity;
+    private GameEvent[] buffer; // Allocated when the first subscribed event is published
+    private int mask;
+    private final List<List<GameEventListener>> listeners =
+            new ArrayList<>(GameEventType.values().length); // Indexed by event type ordinal
+    private int head; // The next event to deliver
+    private int tail; // The next free slot
+
+    /**
+     * Creates a bus with the default capacity.
+     */
+    public GameEventBus() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a bus holding at least the given number of events.
+     *
+     * @param capacity the minimum capacity, rounded up to a power of two.
+     * @throws IllegalArgumentException if capacity is not positive or is too large.
+     */
+    public GameEventBus(int capacity) {
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30.");
+        }
+        this.capacity = Math.max(1, Integer.highestOneBit(capacity - 1) << 1);
+        for (int i = 0; i < GameEventType.values().length; i++) {
+            listeners.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Subscribes a listener to events of the given types.
+     *
+     * @param types the event types to deliver to the listener.
+     * @param listener the listener.
+     */
+    public void subscribe(Set<GameEventType> types, GameEventListener listener) {
+        for (GameEventType type : types) {
+            listeners.get(type.ordinal()).add(listener);
+        }
+    }
+
+    /**
+     * Unsubscribes a listener from all event types.
+     *
+     * @param listener the listener.
+     */
+    public void unsubscribe(GameEventListener listener) {
+        for (List<GameEventListener> typeListeners : listeners) {
+            typeListeners.remove(listener);
+        }
+    }
+
+    /**
+     * Returns whether any listener subscribes to the given type.
+     *
+     * @param type the event type.
+     * @return true if events of the type are delivered to someone.
+     */
+    public boolean hasSubscribers(GameEventType type) {
+        return !listeners.get(type.ordinal()).isEmpty();
+    }
+
+    /**
+     * Publishes an event to be delivered on the next flush.
+     *
+     * @param type the event type.
+     * @param object the object the event is about.
+     * @param first the first value, as described by the type.
+     * @param second the second value, as described by the type.
+     */
+    public void publish(GameEventType type, SpaceObject object, int first, int second) {
+        publish(type, SpaceObjectKind.of(object), object, first, second);
+    }
+
+    /**
+     * Publishes an event to be delivered on the next flush.
+     *
+     * @param type the event type.
+     * @param kind the kind of the object the event is about.
+     * @param object the object the event is about.
+     * @param first the first value, as described by the type.
+     * @param second the second value, as described by the type.
+     */
+    public void publish(GameEventType type, SpaceObjectKind kind, SpaceObject object,
+                        int first, int second) {
+        if (listeners.get(type.ordinal()).isEmpty()) {
+            return;
+        }
+        if (buffer == null) {
+            allocate();
+        } else if (tail - head == buffer.length) {
+            deliverNext();
+        }
+        buffer[tail++ & mask].set(type, kind, object, first, second);
+    }
+
+    /**
+     * Delivers all pending events, in the order they were published.
+     */
+    public void flush() {
+        while (head != tail) {
+            deliverNext();
+        }
+    }
+
+    /**
+     * Returns the number of events waiting to be delivered.
+     *
+     * @return the number of pending events.
+     */
+    public int pending() {
+        return tail - head;
+    }
+
+    private void allocate() {
+        buffer = new GameEvent[capacity];
+        for (int i = 0; i < buffer.length; i++) {
+            buffer[i] = new GameEvent();
+        }
+        mask = buffer.length - 1;
+    }
+
+    private void deliverNext() {
+        GameEvent event = buffer[head++ & mask];
+        List<GameEventListener> typeListeners = listeners.get(event.getType().ordinal());
+        for (int i = 0; i < typeListeners.size(); i++) {
+            typeListeners.get(i).onEvent(event);
+        }
+        event.clear();
+    }
+}
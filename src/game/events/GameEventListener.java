@@ -0,0 +1,15 @@
+package game.events;
+
+/**
+ * Receives events delivered by a GameEventBus.
+ */
+@FunctionalInterface
+public interface GameEventListener {
+
+    /**
+     * Handles a delivered event. The event is reused once this method returns.
+     *
+     * @param event the delivered event.
+     */
+    void onEvent(GameEvent event);
+}
@@ -0,0 +1,27 @@
+package game.events;
+
+/**
+ * The types of event published on a GameEventBus, and the meaning of their values.
+ */
+public enum GameEventType {
+    /**
+     * The ship was hit by an object. The first value is the damage taken.
+     */
+    HIT,
+    /**
+     * The ship collected a power-up.
+     */
+    PICKUP,
+    /**
+     * The game levelled up. The values are the new level and its spawn rate.
+     */
+    LEVEL_UP,
+    /**
+     * The ship moved. The values are its new x and y coordinates.
+     */
+    MOVE,
+    /**
+     * The ship fired a bullet. The values are the x and y coordinates of the bullet.
+     */
+    FIRE
+}
@@ -0,0 +1,46 @@
+package game.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Flight Recorder event for an achievement being mastered.
+ * Disabled unless a recording enables it.
+ */
+@Name("game.AchievementMastered")
+@Label("Achievement Mastered")
+@Category({"Space Shooter", "Achievements"})
+@Description("An achievement reaching full progress")
+@Enabled(false)
+@StackTrace(false)
+public class AchievementMasteredEvent extends Event {
+
+    private static final EventType TYPE = EventType.getEventType(AchievementMasteredEvent.class);
+
+    @Label("Achievement")
+    private String name;
+
+    @Label("Tier")
+    private String tier;
+
+    /**
+     * Records a mastered achievement, if the event is enabled.
+     *
+     * @param name the achievement's name.
+     * @param tier the achievement's tier.
+     */
+    public static void emit(String name, String tier) {
+        if (TYPE.isEnabled()) {
+            AchievementMasteredEvent event = new AchievementMasteredEvent();
+            event.name = name;
+            event.tier = tier;
+            event.commit();
+        }
+    }
+}
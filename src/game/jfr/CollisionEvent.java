@@ -0,0 +1,65 @@
+package game.jfr;
+
+import game.core.SpaceObjectKind;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Flight Recorder event for a collision handled by GameModel: the ship hitting an object,
+ * or a bullet hitting an enemy or asteroid. Disabled unless a recording enables it.
+ */
+@Name("game.Collision")
+@Label("Collision")
+@Category({"Space Shooter", "Model"})
+@Description("Two objects colliding in one cell")
+@Enabled(false)
+@StackTrace(false)
+public class CollisionEvent extends Event {
+
+    private static final EventType TYPE = EventType.getEventType(CollisionEvent.class);
+
+    @Label("First Kind")
+    @Description("The ship or bullet that collided")
+    private String first;
+
+    @Label("Second Kind")
+    @Description("The object it collided with")
+    private String second;
+
+    @Label("X")
+    private int x;
+
+    @Label("Y")
+    private int y;
+
+    @Label("Damage")
+    @Description("Damage dealt to the ship")
+    private int damage;
+
+    /**
+     * Records a collision, if the event is enabled.
+     *
+     * @param first the kind of the ship or bullet.
+     * @param second the kind of the object it collided with.
+     * @param x the x-coordinate of the collision.
+     * @param y the y-coordinate of the collision.
+     * @param damage the damage dealt to the ship, or 0.
+     */
+    public static void emit(SpaceObjectKind first, SpaceObjectKind second, int x, int y, int damage) {
+        if (TYPE.isEnabled()) {
+            CollisionEvent event = new CollisionEvent();
+            event.first = first.name();
+            event.second = second.name();
+            event.x = x;
+            event.y = y;
+            event.damage = damage;
+            event.commit();
+        }
+    }
+}
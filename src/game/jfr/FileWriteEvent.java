@@ -0,0 +1,67 @@
+package game.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Flight Recorder event timing a write to the achievement file by FileHandler.
+ * Disabled unless a recording enables it. While it is disabled, start() returns a shared
+ * event that records nothing, so saving allocates no event.
+ */
+@Name("game.FileWrite")
+@Label("Achievement File Write")
+@Category({"Space Shooter", "Achievements"})
+@Description("A line appended to the achievement file")
+@Enabled(false)
+public class FileWriteEvent extends Event {
+
+    private static final EventType TYPE = EventType.getEventType(FileWriteEvent.class);
+    private static final FileWriteEvent DISABLED = new FileWriteEvent();
+
+    @Label("Path")
+    private String path;
+
+    @Label("Characters")
+    @Description("Characters written, including the line separator")
+    private long characters;
+
+    @Label("Succeeded")
+    private boolean succeeded;
+
+    /**
+     * Starts timing a write.
+     *
+     * @param path the file written to.
+     * @param characters the number of characters being written.
+     * @return the started event.
+     */
+    public static FileWriteEvent start(String path, long characters) {
+        if (!TYPE.isEnabled()) {
+            return DISABLED;
+        }
+        FileWriteEvent event = new FileWriteEvent();
+        event.path = path;
+        event.characters = characters;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the write, recording it if the event is enabled.
+     *
+     * @param succeeded whether the write succeeded.
+     */
+    public void finish(boolean succeeded) {
+        if (this == DISABLED) {
+            return;
+        }
+        end();
+        this.succeeded = succeeded;
+        commit();
+    }
+}
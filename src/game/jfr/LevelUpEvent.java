@@ -0,0 +1,52 @@
+package game.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Flight Recorder event for the game reaching a new level.
+ * Disabled unless a recording enables it.
+ */
+@Name("game.LevelUp")
+@Label("Level Up")
+@Category({"Space Shooter", "Model"})
+@Description("The game reaching a new level")
+@Enabled(false)
+@StackTrace(false)
+public class LevelUpEvent extends Event {
+
+    private static final EventType TYPE = EventType.getEventType(LevelUpEvent.class);
+
+    @Label("Level")
+    private int level;
+
+    @Label("Spawn Rate")
+    @Description("Spawn chance per tick, in percent")
+    private int spawnRate;
+
+    @Label("Score")
+    private int score;
+
+    /**
+     * Records a level up, if the event is enabled.
+     *
+     * @param level the new level.
+     * @param spawnRate the new spawn rate.
+     * @param score the score the level was reached with.
+     */
+    public static void emit(int level, int spawnRate, int score) {
+        if (TYPE.isEnabled()) {
+            LevelUpEvent event = new LevelUpEvent();
+            event.level = level;
+            event.spawnRate = spawnRate;
+            event.score = score;
+            event.commit();
+        }
+    }
+}
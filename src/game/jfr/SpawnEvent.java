@@ -0,0 +1,57 @@
+package game.jfr;
+
+import game.core.SpaceObjectKind;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Flight Recorder event for an object spawned by GameModel.
+ * Disabled unless a recording enables it.
+ */
+@Name("game.Spawn")
+@Label("Spawn")
+@Category({"Space Shooter", "Model"})
+@Description("An object spawned at the top of the board")
+@Enabled(false)
+@StackTrace(false)
+public class SpawnEvent extends Event {
+
+    private static final EventType TYPE = EventType.getEventType(SpawnEvent.class);
+
+    @Label("Kind")
+    private String kind;
+
+    @Label("X")
+    private int x;
+
+    @Label("Y")
+    private int y;
+
+    @Label("Level")
+    private int level;
+
+    /**
+     * Records a spawn, if the event is enabled.
+     *
+     * @param kind the kind of object spawned.
+     * @param x the x-coordinate it spawned at.
+     * @param y the y-coordinate it spawned at.
+     * @param level the level being played.
+     */
+    public static void emit(SpaceObjectKind kind, int x, int y, int level) {
+        if (TYPE.isEnabled()) {
+            SpawnEvent event = new SpawnEvent();
+            event.kind = kind.name();
+            event.x = x;
+            event.y = y;
+            event.level = level;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package game.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Flight Recorder event timing one phase of GameController.onTick(), such as updating
+ * objects or rendering. Each tick's phases follow one another on the game thread:
+ *
+ *     TickPhaseEvent phase = TickPhaseEvent.start(tick, TickPhaseEvent.UPDATE);
+ *     model.updateGame(tick);
+ *     phase = phase.next(TickPhaseEvent.COLLISIONS);
+ *     ...
+ *     phase.finish();
+ *
+ * Like every game event, it is disabled unless a recording enables it, for example with
+ * -XX:StartFlightRecording:+game.TickPhase#enabled=true. While it is disabled, start()
+ * returns a shared event that records nothing, so timing phases allocates nothing.
+ */
+@Name("game.TickPhase")
+@Label("Tick Phase")
+@Category({"Space Shooter", "Tick"})
+@Description("One phase of a game tick")
+@Enabled(false)
+@StackTrace(false)
+public class TickPhaseEvent extends Event {
+
+    public static final String CLOCK = "clock";
+    public static final String UPDATE = "update";
+    public static final String COLLISIONS = "collisions";
+    public static final String SPAWN = "spawn";
+    public static final String LEVEL_UP = "level up";
+    public static final String ACHIEVEMENTS = "achievements";
+    public static final String RENDER = "render";
+
+    private static final EventType TYPE = EventType.getEventType(TickPhaseEvent.class);
+    private static final TickPhaseEvent DISABLED = new TickPhaseEvent();
+
+    @Label("Tick")
+    private int tick;
+
+    @Label("Phase")
+    private String phase;
+
+    /**
+     * Starts timing a phase of the given tick.
+     *
+     * @param tick the tick being played.
+     * @param phase the phase, one of the constants of this class.
+     * @return the started event.
+     */
+    public static TickPhaseEvent start(int tick, String phase) {
+        if (!TYPE.isEnabled()) {
+            return DISABLED;
+        }
+        TickPhaseEvent event = new TickPhaseEvent();
+        event.tick = tick;
+        event.phase = phase;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends this phase and starts timing the next phase of the same tick.
+     * If the event was disabled when the tick started, the rest of the tick is not timed.
+     *
+     * @param phase the next phase.
+     * @return the event for the next phase.
+     */
+    public TickPhaseEvent next(String phase) {
+        if (this == DISABLED) {
+            return DISABLED;
+        }
+        finish();
+        return start(tick, phase);
+    }
+
+    /**
+     * Ends this phase, recording it if the event is enabled.
+     */
+    public void finish() {
+        if (this == DISABLED) {
+            return;
+        }
+        end();
+        commit();
+    }
+}
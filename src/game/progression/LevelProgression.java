@@ -0,0 +1,129 @@
+package game.progression;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tracks the level and spawn rate of a game as the score grows.
+ *
+ * The score needed for the next level is taken from the curve once per level, so checking
+ * for a level up is a single comparison. The spawn rate grows by a fixed amount per level,
+ * but never past a maximum, so it stays a meaningful percentage however long the game runs.
+ */
+public class LevelProgression {
+
+    private final ProgressionCurve curve;
+    private final int spawnRateIncrease;
+    private final int maxSpawnRate;
+    private final List<LevelUpListener> listeners = new ArrayList<>();
+    private int level;
+    private int spawnRate;
+    private int nextLevelScore; // The score needed to complete the current level
+
+    /**
+     * Creates a progression starting at the given level and spawn rate.
+     *
+     * @param curve the score needed to complete each level.
+     * @param startLevel the starting level.
+     * @param startSpawnRate the spawn rate of the starting level.
+     * @param spawnRateIncrease the spawn rate increase per level.
+     * @param maxSpawnRate the highest spawn rate.
+     * @throws IllegalArgumentException if the starting level is not positive, or the
+     *         starting spawn rate is negative or above the maximum.
+     */
+    public LevelProgression(ProgressionCurve curve, int startLevel, int startSpawnRate,
+                            int spawnRateIncrease, int maxSpawnRate) {
+        if (startLevel < 1) {
+            throw new IllegalArgumentException("Starting level must be positive.");
+        }
+        if (startSpawnRate < 0 || startSpawnRate > maxSpawnRate) {
+            throw new IllegalArgumentException("Starting spawn rate must be between 0 and "
+                    + maxSpawnRate + ".");
+        }
+        this.curve = curve;
+        this.spawnRateIncrease = spawnRateIncrease;
+        this.maxSpawnRate = maxSpawnRate;
+        this.level = startLevel;
+        this.spawnRate = startSpawnRate;
+        this.nextLevelScore = curve.scoreToComplete(startLevel);
+    }
+
+    /**
+     * Returns a progression at the same level, spawn rate and threshold, following the same
+     * curve. Listeners are not copied.
+     *
+     * @return a copy of this progression.
+     */
+    public LevelProgression copy() {
+        LevelProgression copy = new LevelProgression(curve, level, 0, spawnRateIncrease,
+                maxSpawnRate);
+        copy.spawnRate = spawnRate;
+        copy.nextLevelScore = nextLevelScore;
+        return copy;
+    }
+
+    /**
+     * Registers a listener to be notified of every level up.
+     *
+     * @param listener the listener to notify.
+     */
+    public void addListener(LevelUpListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a previously registered listener.
+     *
+     * @param listener the listener to remove.
+     */
+    public void removeListener(LevelUpListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Moves up one level if the given score completes the current level.
+     * At most one level is gained per call, however far the score is past the threshold.
+     *
+     * @param score the current score.
+     * @return true if the level increased.
+     */
+    public boolean update(int score) {
+        if (score < nextLevelScore) {
+            return false;
+        }
+        level++;
+        spawnRate = Math.min(maxSpawnRate, spawnRate + spawnRateIncrease);
+        nextLevelScore = curve.scoreToComplete(level);
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).levelUp(level, spawnRate);
+        }
+        return true;
+    }
+
+    /**
+     * Returns the current level.
+     *
+     * @return the current level.
+     */
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * Returns the spawn rate of the current level.
+     *
+     * @return the spawn rate, as a percentage chance per tick.
+     */
+    public int getSpawnRate() {
+        return spawnRate;
+    }
+
+    /**
+     * Returns the score needed to complete the current level.
+     *
+     * @return the next level-up threshold.
+     */
+    public int getNextLevelScore() {
+        return nextLevelScore;
+    }
+}
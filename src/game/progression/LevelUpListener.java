@@ -0,0 +1,16 @@
+package game.progression;
+
+/**
+ * Receives a notification each time the game levels up.
+ */
+@FunctionalInterface
+public interface LevelUpListener {
+
+    /**
+     * Called after the game has moved up to a new level.
+     *
+     * @param level the new level.
+     * @param spawnRate the spawn rate of the new level, as a percentage chance per tick.
+     */
+    void levelUp(int level, int spawnRate);
+}
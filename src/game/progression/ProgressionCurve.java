@@ -0,0 +1,86 @@
+package game.progression;
+
+/**
+ * Gives the score needed to complete each level.
+ *
+ * Thresholds are cumulative scores, so the score needed to complete a level must not be less
+ * than the score needed to complete the level before it. Thresholds too large for an int
+ * are clamped to Integer.MAX_VALUE, which no score can pass.
+ */
+@FunctionalInterface
+public interface ProgressionCurve {
+
+    /**
+     * Returns the score needed to complete the given level and move on to the next one.
+     *
+     * @param level the level to complete, starting at 1.
+     * @return the score threshold for the level.
+     */
+    int scoreToComplete(int level);
+
+    /**
+     * Returns a curve where every level takes the same additional score, so level n is
+     * completed at n * step. linear(GameModel.SCORE_THRESHOLD) is the original progression.
+     *
+     * @param step the score each level takes.
+     * @return the linear curve.
+     * @throws IllegalArgumentException if step is not positive.
+     */
+    static ProgressionCurve linear(int step) {
+        if (step <= 0) {
+            throw new IllegalArgumentException("Score step must be positive.");
+        }
+        return level -> clamp((long) level * step);
+    }
+
+    /**
+     * Returns a curve where each level takes growth times the score of the level before it,
+     * so level n is completed at first * (1 + growth + ... + growth^(n - 1)).
+     *
+     * @param first the score the first level takes.
+     * @param growth the factor by which each level's score grows.
+     * @return the exponential curve.
+     * @throws IllegalArgumentException if first is not positive or growth is less than 1.
+     */
+    static ProgressionCurve exponential(int first, double growth) {
+        if (first <= 0) {
+            throw new IllegalArgumentException("First level score must be positive.");
+        }
+        if (!(growth >= 1)) {
+            throw new IllegalArgumentException("Growth must be at least 1.");
+        }
+        return level -> {
+            double total = growth == 1 ? (double) first * level
+                    : first * (Math.pow(growth, level) - 1) / (growth - 1);
+            return total >= Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) Math.round(total);
+        };
+    }
+
+    /**
+     * Returns a curve following the given thresholds. Levels past the end of the table take
+     * the same additional score as the last level in it.
+     *
+     * @param thresholds the score needed to complete levels 1, 2, 3 and so on.
+     * @return the table curve.
+     * @throws IllegalArgumentException if the table is empty, starts below 1 or decreases.
+     */
+    static ProgressionCurve table(int... thresholds) {
+        int[] table = thresholds.clone();
+        if (table.length == 0 || table[0] < 1) {
+            throw new IllegalArgumentException("Thresholds must start with a positive score.");
+        }
+        for (int i = 1; i < table.length; i++) {
+            if (table[i] < table[i - 1]) {
+                throw new IllegalArgumentException("Thresholds must not decrease.");
+            }
+        }
+        int last = table[table.length - 1];
+        int step = Math.max(1, table.length == 1 ? last : last - table[table.length - 2]);
+        return level -> level <= table.length ? table[level - 1]
+                : clamp(last + (long) (level - table.length) * step);
+    }
+
+    private static int clamp(long score) {
+        return (int) Math.min(score, Integer.MAX_VALUE);
+    }
+}
@@ -0,0 +1,116 @@
+package game.spawn;
+
+import game.core.SpaceObjectKind;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Loads spawn schedules from a line-based configuration format.
+ *
+ * Each level starts with a "level N" line and is followed by one or more "wave" lines:
+ * <pre>
+ * # Level 1: a steady trickle
+ * level 1
+ * wave 0 asteroid=20 enemy=10 power_up=5
+ *
+ * # Level 5: calm for 50 ticks, then a 10 tick wave of enemy bursts
+ * level 5
+ * wave 50 asteroid=30 enemy=15
+ * wave 10 enemy=200*3 health=20
+ * </pre>
+ * A wave line gives the wave's duration in ticks (0 for a single wave that never ends)
+ * followed by "kind=chance" entries, where chance is in thousandths and an optional "*N"
+ * spawns N objects at once. The kinds are asteroid, enemy, shield, health and power_up,
+ * which splits its chance evenly between shield and health. Text after '#' is ignored.
+ */
+public class SpawnConfig {
+
+    private SpawnConfig() {
+    }
+
+    /**
+     * Reads and compiles the schedule in the given file.
+     *
+     * @param fileLocation the location of the configuration file.
+     * @return the compiled spawn scheduler.
+     * @throws IOException if the file cannot be read.
+     * @throws IllegalArgumentException if the file is not a valid configuration.
+     */
+    public static SpawnScheduler load(String fileLocation) throws IOException {
+        return parse(Files.readAllLines(Path.of(fileLocation), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Compiles the schedule described by the given lines.
+     *
+     * @param lines the lines of the configuration.
+     * @return the compiled spawn scheduler.
+     * @throws IllegalArgumentException if the lines are not a valid configuration.
+     */
+    public static SpawnScheduler parse(List<String> lines) {
+        Map<Integer, List<SpawnWave>> levels = new HashMap<>();
+        List<SpawnWave> waves = null;
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            int comment = line.indexOf('#');
+            if (comment >= 0) {
+                line = line.substring(0, comment);
+            }
+            String[] tokens = line.trim().split("\\s+");
+            if (tokens[0].isEmpty()) {
+                continue;
+            }
+            try {
+                if (tokens[0].equals("level") && tokens.length == 2) {
+                    waves = new ArrayList<>();
+                    if (levels.put(Integer.parseInt(tokens[1]), waves) != null) {
+                        throw new IllegalArgumentException("Level " + tokens[1] + " is configured twice.");
+                    }
+                } else if (tokens[0].equals("wave") && tokens.length >= 2) {
+                    if (waves == null) {
+                        throw new IllegalArgumentException("Wave given before any level.");
+                    }
+                    waves.add(parseWave(tokens));
+                } else {
+                    throw new IllegalArgumentException("Expected a level or wave line.");
+                }
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Line " + (i + 1) + ": " + e.getMessage(), e);
+            }
+        }
+        return new SpawnScheduler(levels);
+    }
+
+    private static SpawnWave parseWave(String[] tokens) {
+        int duration = Integer.parseInt(tokens[1]);
+        List<SpawnRule> rules = new ArrayList<>();
+        for (int i = 2; i < tokens.length; i++) {
+            String[] entry = tokens[i].split("=", 2);
+            if (entry.length != 2) {
+                throw new IllegalArgumentException("Expected kind=chance but found " + tokens[i] + ".");
+            }
+            String[] chance = entry[1].split("\\*", 2);
+            int perMille = Integer.parseInt(chance[0]);
+            int burst = chance.length == 2 ? Integer.parseInt(chance[1]) : 1;
+            switch (entry[0]) {
+                case "asteroid" -> rules.add(new SpawnRule(SpaceObjectKind.ASTEROID, perMille, burst));
+                case "enemy" -> rules.add(new SpawnRule(SpaceObjectKind.ENEMY, perMille, burst));
+                case "shield" -> rules.add(new SpawnRule(SpaceObjectKind.SHIELD_POWER_UP, perMille, burst));
+                case "health" -> rules.add(new SpawnRule(SpaceObjectKind.HEALTH_POWER_UP, perMille, burst));
+                case "power_up" -> {
+                    rules.add(new SpawnRule(SpaceObjectKind.SHIELD_POWER_UP, perMille / 2, burst));
+                    rules.add(new SpawnRule(SpaceObjectKind.HEALTH_POWER_UP, perMille - perMille / 2, burst));
+                }
+                default -> throw new IllegalArgumentException("Unknown kind " + entry[0] + ".");
+            }
+        }
+        return new SpawnWave(duration, new SpawnTable(rules));
+    }
+}
@@ -0,0 +1,78 @@
+package game.spawn;
+
+import game.core.SpaceObjectKind;
+
+/**
+ * A single entry of a spawn table: the kind of object to spawn, the chance of spawning it on
+ * a tick, and how many objects spawn together when it does.
+ */
+public class SpawnRule {
+
+    private final SpaceObjectKind kind;
+    private final int perMille;
+    private final int burst;
+
+    /**
+     * Creates a rule spawning a single object.
+     *
+     * @param kind the kind of object to spawn.
+     * @param perMille the chance of spawning per tick, in thousandths.
+     * @throws IllegalArgumentException if the kind cannot be spawned or the chance is not
+     *         between 0 and SpawnTable.PER_MILLE.
+     */
+    public SpawnRule(SpaceObjectKind kind, int perMille) {
+        this(kind, perMille, 1);
+    }
+
+    /**
+     * Creates a rule spawning a burst of objects at once.
+     *
+     * @param kind the kind of object to spawn.
+     * @param perMille the chance of spawning per tick, in thousandths.
+     * @param burst the number of objects spawned together, each at its own x-coordinate.
+     * @throws IllegalArgumentException if the kind cannot be spawned, the chance is not
+     *         between 0 and SpawnTable.PER_MILLE, or the burst is not positive.
+     */
+    public SpawnRule(SpaceObjectKind kind, int perMille, int burst) {
+        if (kind != SpaceObjectKind.ASTEROID && kind != SpaceObjectKind.ENEMY && !kind.isPowerUp()) {
+            throw new IllegalArgumentException("Cannot spawn objects of kind " + kind + ".");
+        }
+        if (perMille < 0 || perMille > SpawnTable.PER_MILLE) {
+            throw new IllegalArgumentException("Spawn chance must be between 0 and "
+                    + SpawnTable.PER_MILLE + ".");
+        }
+        if (burst <= 0) {
+            throw new IllegalArgumentException("Burst size must be positive.");
+        }
+        this.kind = kind;
+        this.perMille = perMille;
+        this.burst = burst;
+    }
+
+    /**
+     * Returns the kind of object spawned by this rule.
+     *
+     * @return the spawned kind.
+     */
+    public SpaceObjectKind getKind() {
+        return kind;
+    }
+
+    /**
+     * Returns the chance of this rule spawning on a tick, in thousandths.
+     *
+     * @return the spawn chance per mille.
+     */
+    public int getPerMille() {
+        return perMille;
+    }
+
+    /**
+     * Returns the number of objects spawned together.
+     *
+     * @return the burst size.
+     */
+    public int getBurst() {
+        return burst;
+    }
+}
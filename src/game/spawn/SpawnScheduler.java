@@ -0,0 +1,134 @@
+package game.spawn;
+
+import game.core.SpaceObjectKind;
+import game.utility.GameRandom;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Decides what spawns on each tick from per-level spawn patterns.
+ *
+ * Each level has a pattern of waves that repeats for as long as the level lasts. Levels
+ * without a pattern of their own use the pattern of the closest lower level that has one,
+ * and levels below the lowest configured level use the lowest pattern. Patterns are
+ * resolved into an array indexed by level when the scheduler is created, so a tick costs
+ * a level lookup and a single roll of the current wave's SpawnTable.
+ */
+public class SpawnScheduler {
+
+    /**
+     * Receives the objects a scheduler decides to spawn.
+     */
+    @FunctionalInterface
+    public interface Spawner {
+
+        /**
+         * Spawns an object of the given kind at the top of the board.
+         *
+         * @param kind the kind of object to spawn.
+         * @param x the x-coordinate to spawn at.
+         */
+        void spawn(SpaceObjectKind kind, int x);
+    }
+
+    private final SpawnWave[][] patterns; // Indexed by level - 1
+    private int level; // The level of the current pattern, or 0 before the first tick
+    private int wave; // The index of the current wave in the pattern
+    private int elapsed; // The ticks elapsed in the current wave
+
+    /**
+     * Creates a scheduler from the wave patterns of each level.
+     *
+     * @param waves the repeating pattern of waves for each configured level.
+     * @throws IllegalArgumentException if no levels are given, a level is not positive,
+     *         a pattern is empty, or a wave that never ends is followed by other waves.
+     */
+    public SpawnScheduler(Map<Integer, List<SpawnWave>> waves) {
+        if (waves.isEmpty()) {
+            throw new IllegalArgumentException("At least one level must be configured.");
+        }
+        TreeMap<Integer, List<SpawnWave>> sorted = new TreeMap<>(waves);
+        if (sorted.firstKey() < 1) {
+            throw new IllegalArgumentException("Levels must be positive.");
+        }
+        patterns = new SpawnWave[sorted.lastKey()][];
+        SpawnWave[] pattern = toPattern(sorted.firstEntry().getValue());
+        for (int level = 1; level <= patterns.length; level++) {
+            if (sorted.containsKey(level)) {
+                pattern = toPattern(sorted.get(level));
+            }
+            patterns[level - 1] = pattern;
+        }
+    }
+
+    private SpawnScheduler(SpawnScheduler source) {
+        this.patterns = source.patterns;
+        this.level = source.level;
+        this.wave = source.wave;
+        this.elapsed = source.elapsed;
+    }
+
+    private static SpawnWave[] toPattern(List<SpawnWave> waves) {
+        if (waves.isEmpty()) {
+            throw new IllegalArgumentException("A level must have at least one wave.");
+        }
+        if (waves.size() > 1) {
+            for (SpawnWave wave : waves) {
+                if (wave.getDuration() == 0) {
+                    throw new IllegalArgumentException("Only a level's single wave may last forever.");
+                }
+            }
+        }
+        return waves.toArray(new SpawnWave[0]);
+    }
+
+    /**
+     * Spawns the objects for one tick of the given level.
+     * A change of level restarts the pattern from its first wave.
+     *
+     * @param level the current game level.
+     * @param rolls the generator used to roll the spawn table.
+     * @param positions the generator used to choose x-coordinates.
+     * @param width the width of the board.
+     * @param spawner receives the objects to spawn.
+     */
+    public void spawn(int level, GameRandom rolls, GameRandom positions, int width,
+                      Spawner spawner) {
+        SpawnWave[] pattern = patterns[Math.min(Math.max(level, 1), patterns.length) - 1];
+        if (level != this.level) {
+            this.level = level;
+            wave = 0;
+            elapsed = 0;
+        }
+        SpawnWave current = pattern[wave];
+        if (current.getDuration() != 0 && ++elapsed == current.getDuration()) {
+            wave = (wave + 1) % pattern.length;
+            elapsed = 0;
+        }
+        SpawnRule rule = current.getTable().roll(rolls);
+        if (rule == null) {
+            return;
+        }
+        for (int i = 0; i < rule.getBurst(); i++) {
+            spawner.spawn(rule.getKind(), positions.nextInt(width));
+        }
+    }
+
+    /**
+     * Returns a scheduler with the same patterns, at the same point in the current pattern.
+     *
+     * @return a copy of this scheduler.
+     */
+    public SpawnScheduler copy() {
+        return new SpawnScheduler(this);
+    }
+
+    /**
+     * Restarts the pattern of the current level from its first wave on the next tick.
+     */
+    public void reset() {
+        level = 0;
+    }
+}
@@ -0,0 +1,79 @@
+package game.spawn;
+
+import game.utility.GameRandom;
+
+import java.util.List;
+
+/**
+ * A set of spawn rules compiled into a lookup table of PER_MILLE outcomes.
+ *
+ * Rules are mutually exclusive: each tick rolls once, and the roll indexes straight into the
+ * table to find the rule that spawns, if any. Rolling costs one draw and one array read
+ * however many rules the table has.
+ */
+public class SpawnTable {
+
+    /**
+     * The number of outcomes of a roll. Rule chances are expressed out of this number.
+     */
+    public static final int PER_MILLE = 1000;
+
+    /**
+     * A table that never spawns anything.
+     */
+    public static final SpawnTable EMPTY = new SpawnTable(List.of());
+
+    private static final byte NONE = -1;
+
+    private final SpawnRule[] rules;
+    private final byte[] outcomes = new byte[PER_MILLE];
+
+    /**
+     * Compiles the given rules into a spawn table.
+     *
+     * @param rules the rules of the table.
+     * @throws IllegalArgumentException if the chances of the rules add up to more than
+     *         PER_MILLE, or there are more rules than a table can hold.
+     */
+    public SpawnTable(List<SpawnRule> rules) {
+        if (rules.size() > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("A spawn table holds at most "
+                    + Byte.MAX_VALUE + " rules.");
+        }
+        this.rules = rules.toArray(new SpawnRule[0]);
+        int next = 0;
+        for (int i = 0; i < this.rules.length; i++) {
+            int end = next + this.rules[i].getPerMille();
+            if (end > PER_MILLE) {
+                throw new IllegalArgumentException("Spawn chances add up to more than "
+                        + PER_MILLE + ".");
+            }
+            for (; next < end; next++) {
+                outcomes[next] = (byte) i;
+            }
+        }
+        for (; next < PER_MILLE; next++) {
+            outcomes[next] = NONE;
+        }
+    }
+
+    /**
+     * Rolls the table once.
+     *
+     * @param random the generator to roll with.
+     * @return the rule that spawns on this roll, or null if nothing spawns.
+     */
+    public SpawnRule roll(GameRandom random) {
+        byte outcome = outcomes[random.nextInt(PER_MILLE)];
+        return outcome == NONE ? null : rules[outcome];
+    }
+
+    /**
+     * Returns the rules of this table.
+     *
+     * @return the rules, in the order they were given.
+     */
+    public List<SpawnRule> getRules() {
+        return List.of(rules);
+    }
+}
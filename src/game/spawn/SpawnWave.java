@@ -0,0 +1,43 @@
+package game.spawn;
+
+/**
+ * A phase of a level's spawn pattern: a spawn table that is used for a number of ticks.
+ */
+public class SpawnWave {
+
+    private final int duration;
+    private final SpawnTable table;
+
+    /**
+     * Creates a wave using the given table for the given number of ticks.
+     *
+     * @param duration the length of the wave in ticks, or 0 for a wave that never ends.
+     * @param table the spawn table used during the wave.
+     * @throws IllegalArgumentException if duration is negative.
+     */
+    public SpawnWave(int duration, SpawnTable table) {
+        if (duration < 0) {
+            throw new IllegalArgumentException("Wave duration cannot be negative.");
+        }
+        this.duration = duration;
+        this.table = table;
+    }
+
+    /**
+     * Returns the length of this wave in ticks.
+     *
+     * @return the duration, or 0 if the wave never ends.
+     */
+    public int getDuration() {
+        return duration;
+    }
+
+    /**
+     * Returns the spawn table used during this wave.
+     *
+     * @return the spawn table.
+     */
+    public SpawnTable getTable() {
+        return table;
+    }
+}
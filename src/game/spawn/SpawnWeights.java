@@ -0,0 +1,98 @@
+package game.spawn;
+
+import game.core.SpaceObjectKind;
+import game.utility.AliasTable;
+import game.utility.GameRandom;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+/**
+ * Per-level weights for choosing which kind of object to spawn, such as the type of a
+ * power-up. Each level's weights are compiled into an AliasTable, so choosing a kind takes
+ * the same time however many kinds there are. Levels without weights of their own use those
+ * of the closest lower level, and levels below the lowest configured level use the lowest.
+ * Kinds are indexed in declaration order whatever order the given maps iterate in, so the
+ * same random draws always choose the same kinds.
+ */
+public class SpawnWeights {
+
+    private final SpaceObjectKind[][] kinds; // Indexed by level - 1
+    private final AliasTable[] tables; // Indexed by level - 1
+
+    /**
+     * Compiles the given weights.
+     *
+     * @param weights the weight of each kind, for each configured level.
+     * @throws IllegalArgumentException if no levels are given, a level is not positive,
+     *         or a level's weights are invalid for an AliasTable.
+     */
+    public SpawnWeights(Map<Integer, Map<SpaceObjectKind, Integer>> weights) {
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("At least one level must be configured.");
+        }
+        TreeMap<Integer, Map<SpaceObjectKind, Integer>> sorted = new TreeMap<>(weights);
+        if (sorted.firstKey() < 1) {
+            throw new IllegalArgumentException("Levels must be positive.");
+        }
+        kinds = new SpaceObjectKind[sorted.lastKey()][];
+        tables = new AliasTable[sorted.lastKey()];
+        for (int level = 1; level <= kinds.length; level++) {
+            if (sorted.containsKey(level) || level == 1) {
+                Map<SpaceObjectKind, Integer> current = new EnumMap<>(SpaceObjectKind.class);
+                current.putAll(sorted.getOrDefault(level, sorted.firstEntry().getValue()));
+                kinds[level - 1] = current.keySet().toArray(new SpaceObjectKind[0]);
+                double[] levelWeights = new double[kinds[level - 1].length];
+                for (int i = 0; i < levelWeights.length; i++) {
+                    levelWeights[i] = current.get(kinds[level - 1][i]);
+                }
+                tables[level - 1] = new AliasTable(levelWeights);
+            } else {
+                kinds[level - 1] = kinds[level - 2];
+                tables[level - 1] = tables[level - 2];
+            }
+        }
+    }
+
+    /**
+     * Creates weights that apply to every level.
+     *
+     * @param weights the weight of each kind.
+     * @return the compiled weights.
+     * @throws IllegalArgumentException if the weights are invalid for an AliasTable.
+     */
+    public static SpawnWeights of(Map<SpaceObjectKind, Integer> weights) {
+        return new SpawnWeights(Map.of(1, weights));
+    }
+
+    /**
+     * Chooses a kind for the given level with probability proportional to its weight.
+     *
+     * @param level the current game level.
+     * @param random the generator to draw from.
+     * @return the chosen kind.
+     */
+    public SpaceObjectKind sample(int level, GameRandom random) {
+        int index = Math.min(Math.max(level, 1), kinds.length) - 1;
+        return kinds[index][tables[index].sample(random)];
+    }
+
+    /**
+     * Returns whether every kind that can be chosen satisfies the given condition.
+     *
+     * @param allowed the condition to check.
+     * @return true if all weighted kinds are allowed.
+     */
+    public boolean allMatch(Predicate<SpaceObjectKind> allowed) {
+        for (SpaceObjectKind[] levelKinds : kinds) {
+            for (SpaceObjectKind kind : levelKinds) {
+                if (!allowed.test(kind)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,187 @@
+package game.ui;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * A set of asset files packed into a single indexed file, so the game can read every asset
+ * with one classpath lookup regardless of the working directory.
+ *
+ * The pack starts with a header (magic number, version and entry count) and an index giving
+ * each entry's name, offset and length, followed by the entries' bytes. Entries are named by
+ * the relative paths the game uses for them, such as "assets/enemy.png".
+ *
+ * The game's pack, resources/assets.pack, is built from the assets directory. After changing
+ * any file there, regenerate it from the project root by running this class:
+ * java game.ui.AssetPack assets resources/assets.pack
+ * AssetPackTest fails while the pack differs from the assets directory.
+ */
+public class AssetPack {
+
+    /**
+     * The classpath location of the game's asset pack.
+     */
+    public static final String RESOURCE = "/assets.pack";
+
+    private static final int MAGIC = 0x5353504B; // "SSPK"
+    private static final int VERSION = 1;
+
+    private final Map<String, byte[]> entries;
+
+    private AssetPack(Map<String, byte[]> entries) {
+        this.entries = entries;
+    }
+
+    /**
+     * Returns a pack holding the given entries.
+     *
+     * @param entries the contents of each entry, by name.
+     * @return the pack.
+     */
+    public static AssetPack of(Map<String, byte[]> entries) {
+        return new AssetPack(new LinkedHashMap<>(entries));
+    }
+
+    /**
+     * Returns a pack holding every file in a directory. Entries are named by the directory's
+     * name and the file name, such as "assets/enemy.png", in file name order.
+     *
+     * @param directory the directory to pack.
+     * @return the pack.
+     * @throws IOException if the directory cannot be read.
+     */
+    public static AssetPack ofDirectory(Path directory) throws IOException {
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files.filter(Files::isRegularFile).sorted()::iterator) {
+                entries.put(directory.getFileName() + "/" + file.getFileName(), Files.readAllBytes(file));
+            }
+        }
+        return new AssetPack(entries);
+    }
+
+    /**
+     * Reads the game's asset pack from the classpath.
+     *
+     * @return the pack, or an empty pack if there is none on the classpath.
+     * @throws IOException if the pack cannot be read or is not a valid pack.
+     */
+    public static AssetPack fromClasspath() throws IOException {
+        try (InputStream in = AssetPack.class.getResourceAsStream(RESOURCE)) {
+            return in == null ? new AssetPack(Collections.emptyMap()) : read(in);
+        }
+    }
+
+    /**
+     * Reads a pack written by write().
+     *
+     * @param in the stream to read from.
+     * @return the pack.
+     * @throws IOException if the stream cannot be read or does not hold a valid pack.
+     */
+    public static AssetPack read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not an asset pack.");
+        }
+        int version = data.readInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported asset pack version " + version + ".");
+        }
+        int count = data.readInt();
+        String[] names = new String[count];
+        int[] offsets = new int[count];
+        int[] lengths = new int[count];
+        int size = 0;
+        for (int i = 0; i < count; i++) {
+            names[i] = data.readUTF();
+            offsets[i] = data.readInt();
+            lengths[i] = data.readInt();
+            size = Math.max(size, offsets[i] + lengths[i]);
+        }
+        byte[] contents = data.readNBytes(size);
+        if (contents.length < size) {
+            throw new IOException("Asset pack is truncated.");
+        }
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            entries.put(names[i], Arrays.copyOfRange(contents, offsets[i], offsets[i] + lengths[i]));
+        }
+        return new AssetPack(entries);
+    }
+
+    /**
+     * Writes this pack to the given stream.
+     *
+     * @param out the stream to write to.
+     * @throws IOException if the stream cannot be written.
+     */
+    public void write(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        data.writeInt(entries.size());
+        int offset = 0;
+        for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+            data.writeUTF(entry.getKey());
+            data.writeInt(offset);
+            data.writeInt(entry.getValue().length);
+            offset += entry.getValue().length;
+        }
+        for (byte[] contents : entries.values()) {
+            data.write(contents);
+        }
+        data.flush();
+    }
+
+    /**
+     * Returns the names of the entries in this pack.
+     *
+     * @return the entry names, in pack order.
+     */
+    public Set<String> names() {
+        return Collections.unmodifiableSet(entries.keySet());
+    }
+
+    /**
+     * Returns the contents of the named entry.
+     *
+     * @param name the entry name.
+     * @return the entry's bytes, or null if the pack has no such entry.
+     */
+    public byte[] get(String name) {
+        return entries.get(name);
+    }
+
+    /**
+     * Packs every file in a directory into a pack file; see ofDirectory().
+     *
+     * @param args the directory to pack and the file to write.
+     * @throws IOException if the directory cannot be read or the pack cannot be written.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: java game.ui.AssetPack DIRECTORY OUTPUT");
+            return;
+        }
+        AssetPack pack = ofDirectory(Paths.get(args[0]));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        pack.write(bytes);
+        Files.write(Paths.get(args[1]), bytes.toByteArray());
+        System.out.println("Packed " + pack.entries.size() + " assets into " + args[1]
+                + " (" + bytes.size() + " bytes).");
+    }
+}
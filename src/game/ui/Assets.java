@@ -0,0 +1,151 @@
+package game.ui;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Loads and caches the game's images, so each image is decoded once however many objects
+ * are rendered with it.
+ *
+ * Images are read from the asset pack on the classpath (see AssetPack), so the game finds
+ * them whatever the working directory. While editing images, run the game with
+ * -Dgame.assetDir=DIRECTORY to read them from files under that directory instead, such as
+ * -Dgame.assetDir=. from the project root; images missing there still come from the pack.
+ * preload() decodes every image in the pack in parallel ahead of time.
+ */
+public final class Assets {
+
+    /**
+     * The system property naming a directory to read asset files from before the pack.
+     */
+    public static final String DIRECTORY_PROPERTY = "game.assetDir";
+
+    private static final Map<String, CompletableFuture<Image>> images = new ConcurrentHashMap<>();
+    private static final Path override = overrideDirectory(System.getProperty(DIRECTORY_PROPERTY));
+    private static AssetPack pack;
+
+    private Assets() {
+    }
+
+    /**
+     * Starts decoding every image in the asset pack on the given executor.
+     *
+     * @param executor the executor to decode images on.
+     * @return a future completed once every image has been decoded.
+     * @throws IOException if the asset pack cannot be read.
+     */
+    public static CompletableFuture<Void> preload(Executor executor) throws IOException {
+        AssetPack assets = pack();
+        List<CompletableFuture<Image>> loads = new ArrayList<>();
+        for (String name : assets.names()) {
+            loads.add(load(assets, name, executor));
+        }
+        return CompletableFuture.allOf(loads.toArray(new CompletableFuture<?>[0]));
+    }
+
+    /**
+     * Returns the image at the given path, waiting for it if it is still being preloaded.
+     *
+     * @param path the path of the image, such as "assets/enemy.png".
+     * @return the image.
+     * @throws IOException if the image cannot be found or decoded.
+     */
+    public static Image image(String path) throws IOException {
+        try {
+            return load(pack(), path, Runnable::run).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException unchecked) {
+                throw unchecked.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the cached image at the given path, starting to decode it on the given executor
+     * if no other caller has. Decoding happens outside the cache, so it never holds up lookups
+     * of other images. An image that fails to decode is removed from the cache, so a later
+     * call tries again.
+     */
+    static CompletableFuture<Image> load(AssetPack assets, String path, Executor executor) {
+        CompletableFuture<Image> image = images.get(path);
+        if (image != null) {
+            return image;
+        }
+        CompletableFuture<Image> created = new CompletableFuture<>();
+        image = images.putIfAbsent(path, created);
+        if (image != null) {
+            return image; // Another caller started it first
+        }
+        created.whenComplete((decoded, error) -> {
+            if (error != null) {
+                images.remove(path, created);
+            }
+        });
+        executor.execute(() -> {
+            try {
+                created.complete(decode(assets, path));
+            } catch (RuntimeException e) {
+                created.completeExceptionally(e);
+            }
+        });
+        return created;
+    }
+
+    private static synchronized AssetPack pack() throws IOException {
+        if (pack == null) {
+            pack = AssetPack.fromClasspath();
+        }
+        return pack;
+    }
+
+    private static Path overrideDirectory(String property) {
+        return property == null || property.isEmpty() ? null : Paths.get(property);
+    }
+
+    /**
+     * Returns the contents of the asset at the given path: the file under the override
+     * directory, if there is one, otherwise the pack's entry.
+     *
+     * @param directory the directory to look for the file in, or null to only use the pack.
+     * @return the asset's bytes, or null if neither the directory nor the pack holds it.
+     */
+    static byte[] read(AssetPack assets, Path directory, String path) throws IOException {
+        if (directory != null) {
+            Path file = directory.resolve(path);
+            if (Files.isRegularFile(file)) {
+                return Files.readAllBytes(file);
+            }
+        }
+        return assets.get(path);
+    }
+
+    private static Image decode(AssetPack assets, String path) {
+        try {
+            byte[] bytes = read(assets, override, path);
+            if (bytes == null) {
+                throw new IOException("Can't read input file: " + path);
+            }
+            Image image = ImageIO.read(new ByteArrayInputStream(bytes));
+            if (image == null) {
+                throw new IOException("Not an image: " + path);
+            }
+            return image;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package game.ui;
+
+import game.core.SpaceObject;
+import game.core.SpaceObjectKind;
+
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Follows the objects passed to a UI from frame to frame, giving each object a stable id and
+ * reporting which objects were spawned, moved or removed since the previous frame.
+ *
+ * Objects are identified by reference, so an object keeps its id for as long as it stays in
+ * the rendered list.
+ */
+public class EntityTracker {
+
+    /**
+     * Receives the changes found by an EntityTracker.
+     */
+    public interface Listener {
+        /**
+         * Called for an object that was not in the previous frame.
+         *
+         * @param id the id given to the object.
+         * @param kind the kind of the object.
+         * @param x the x coordinate of the object.
+         * @param y the y coordinate of the object.
+         */
+        void spawned(int id, SpaceObjectKind kind, int x, int y);
+
+        /**
+         * Called for an object whose position changed since the previous frame.
+         *
+         * @param id the id of the object.
+         * @param x the new x coordinate of the object.
+         * @param y the new y coordinate of the object.
+         */
+        void moved(int id, int x, int y);
+
+        /**
+         * Called just before moved(), with where the object is in the list and where it was
+         * in the previous frame, for listeners that follow the list rather than ids.
+         * Does nothing by default.
+         *
+         * @param index the index of the object in the list.
+         * @param fromX the previous x coordinate of the object.
+         * @param fromY the previous y coordinate of the object.
+         */
+        default void movedFrom(int index, int fromX, int fromY) {
+        }
+
+        /**
+         * Called for an object that was in the previous frame but is no longer rendered.
+         *
+         * @param id the id of the object.
+         */
+        void removed(int id);
+    }
+
+    private static class Entity {
+        private final int id;
+        private final SpaceObjectKind kind;
+        private int x;
+        private int y;
+        private long frame;
+
+        private Entity(int id, SpaceObjectKind kind, int x, int y) {
+            this.id = id;
+            this.kind = kind;
+            this.x = x;
+            this.y = y;
+        }
+    }
+
+    private final Map<SpaceObject, Entity> entities = new IdentityHashMap<>();
+    private int nextId = 1;
+    private long frame = 0;
+
+    /**
+     * Compares the given objects with the previous frame and reports the differences.
+     * Spawned and moved objects are reported in list order, followed by removed objects.
+     *
+     * @param objects the objects in the new frame.
+     * @param listener the listener to report changes to.
+     */
+    public void update(List<SpaceObject> objects, Listener listener) {
+        frame++;
+        int seen = 0;
+        for (int i = 0; i < objects.size(); i++) {
+            SpaceObject object = objects.get(i);
+            Entity entity = entities.get(object);
+            int x = object.getX();
+            int y = object.getY();
+            if (entity == null) {
+                entity = new Entity(nextId++, SpaceObjectKind.of(object), x, y);
+                entities.put(object, entity);
+                listener.spawned(entity.id, entity.kind, x, y);
+            } else if (entity.x != x || entity.y != y) {
+                listener.movedFrom(i, entity.x, entity.y);
+                entity.x = x;
+                entity.y = y;
+                listener.moved(entity.id, x, y);
+            }
+            if (entity.frame != frame) {
+                entity.frame = frame;
+                seen++;
+            }
+        }
+        if (entities.size() == seen) {
+            return; // Every tracked object was seen this frame
+        }
+        Iterator<Entity> iterator = entities.values().iterator();
+        while (iterator.hasNext()) {
+            Entity entity = iterator.next();
+            if (entity.frame != frame) {
+                iterator.remove();
+                listener.removed(entity.id);
+            }
+        }
+    }
+
+    /**
+     * Reports every object in the current frame to the listener as spawned.
+     *
+     * @param listener the listener to report objects to.
+     */
+    public void forEach(Listener listener) {
+        for (Entity entity : entities.values()) {
+            listener.spawned(entity.id, entity.kind, entity.x, entity.y);
+        }
+    }
+
+    /**
+     * Returns the number of objects in the current frame.
+     *
+     * @return the number of tracked objects.
+     */
+    public int size() {
+        return entities.size();
+    }
+}
@@ -0,0 +1,66 @@
+package game.ui;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Passes frame snapshots from the simulation to a renderer using three reusable buffers.
+ *
+ * The simulation always writes into its own back buffer and publishes it by atomically
+ * swapping it with the shared middle buffer. The renderer takes the middle buffer, if a
+ * newer one has been published, by swapping it with its own front buffer. Neither side
+ * ever waits for the other, no frame is ever changed while the renderer holds it, and no
+ * memory is allocated per frame. Intermediate frames are skipped if the renderer falls behind.
+ *
+ * Must be used by a single writing thread and a single reading thread.
+ */
+public class FrameExchange {
+
+    private static final int INDEX_MASK = 3;
+    private static final int FRESH = 4; // Set when the middle buffer holds an unread frame
+
+    private final FrameSnapshot[] buffers = {new FrameSnapshot(), new FrameSnapshot(), new FrameSnapshot()};
+    private final AtomicInteger middle = new AtomicInteger(1);
+    private int back = 0; // Owned by the writer
+    private int front = 2; // Owned by the reader
+    private long published = 0; // Owned by the writer
+
+    /**
+     * Returns the snapshot to write the next frame into. Must only be called by the writer.
+     *
+     * @return the writer's back buffer.
+     */
+    public FrameSnapshot beginFrame() {
+        return buffers[back];
+    }
+
+    /**
+     * Returns the number to give the next frame written. Must only be called by the writer.
+     *
+     * @return the sequence number of the next frame.
+     */
+    public long nextSequence() {
+        return published + 1;
+    }
+
+    /**
+     * Publishes the snapshot returned by beginFrame(), making it available to the reader.
+     * Must only be called by the writer.
+     */
+    public void publish() {
+        back = middle.getAndSet(back | FRESH) & INDEX_MASK;
+        published++;
+    }
+
+    /**
+     * Returns the most recently published snapshot. The snapshot will not change until the
+     * next call to this method. Must only be called by the reader.
+     *
+     * @return the latest frame, or an empty frame if none has been published.
+     */
+    public FrameSnapshot latest() {
+        if ((middle.get() & FRESH) != 0) {
+            front = middle.getAndSet(front) & INDEX_MASK;
+        }
+        return buffers[front];
+    }
+}
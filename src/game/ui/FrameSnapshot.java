@@ -0,0 +1,165 @@
+package game.ui;
+
+import game.core.SpaceObject;
+import game.core.SpaceObjectKind;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A compact copy of the objects in one rendered frame, stored as parallel arrays of kind,
+ * x coordinate and y coordinate. Objects of kind OTHER also keep their class, as objects of
+ * different classes may look different.
+ *
+ * Snapshots are reused from frame to frame to avoid allocation. A snapshot is only written
+ * while it is owned by the simulation, and is not changed while a renderer holds it, so
+ * renderers may treat it as immutable. See FrameExchange.
+ */
+public class FrameSnapshot {
+
+    private static final SpaceObjectKind[] KINDS = SpaceObjectKind.values();
+    private static final int INITIAL_CAPACITY = 64;
+
+    private byte[] kinds = new byte[INITIAL_CAPACITY];
+    private int[] xs = new int[INITIAL_CAPACITY];
+    private int[] ys = new int[INITIAL_CAPACITY];
+    private int[] fromXs = new int[INITIAL_CAPACITY];
+    private int[] fromYs = new int[INITIAL_CAPACITY];
+    private Class<?>[] types = new Class<?>[INITIAL_CAPACITY];
+    private int size;
+    private long sequence;
+
+    /**
+     * Replaces the contents of this snapshot with the given objects, in list order.
+     * Each object's previous position is set to its current position; see setFrom().
+     *
+     * @param objects the objects in the frame.
+     * @param sequence the number of the frame.
+     */
+    public void capture(List<SpaceObject> objects, long sequence) {
+        int count = objects.size();
+        if (count > kinds.length) {
+            int capacity = Math.max(count, kinds.length * 2);
+            kinds = Arrays.copyOf(kinds, capacity);
+            xs = Arrays.copyOf(xs, capacity);
+            ys = Arrays.copyOf(ys, capacity);
+            fromXs = Arrays.copyOf(fromXs, capacity);
+            fromYs = Arrays.copyOf(fromYs, capacity);
+            types = Arrays.copyOf(types, capacity);
+        }
+        for (int i = 0; i < count; i++) {
+            SpaceObject object = objects.get(i);
+            SpaceObjectKind kind = SpaceObjectKind.of(object);
+            kinds[i] = (byte) kind.ordinal();
+            types[i] = kind == SpaceObjectKind.OTHER ? object.getClass() : null;
+            xs[i] = object.getX();
+            ys[i] = object.getY();
+            fromXs[i] = xs[i];
+            fromYs[i] = ys[i];
+        }
+        this.size = count;
+        this.sequence = sequence;
+    }
+
+    /**
+     * Returns the number of objects in the frame.
+     *
+     * @return the number of objects.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of the frame, which increases with every captured frame.
+     *
+     * @return the frame number.
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Returns the kind of the object at the given index.
+     *
+     * @param index the index of the object, between 0 and size() - 1.
+     * @return the kind of the object.
+     */
+    public SpaceObjectKind getKind(int index) {
+        return KINDS[kinds[index]];
+    }
+
+    /**
+     * Returns the class of the object at the given index, if it is not one of the standard
+     * game objects.
+     *
+     * @param index the index of the object, between 0 and size() - 1.
+     * @return the class of the object if its kind is OTHER, otherwise null.
+     */
+    public Class<?> getType(int index) {
+        return types[index];
+    }
+
+    /**
+     * Returns the x coordinate of the object at the given index.
+     *
+     * @param index the index of the object, between 0 and size() - 1.
+     * @return the x coordinate of the object.
+     */
+    public int getX(int index) {
+        return xs[index];
+    }
+
+    /**
+     * Returns the y coordinate of the object at the given index.
+     *
+     * @param index the index of the object, between 0 and size() - 1.
+     * @return the y coordinate of the object.
+     */
+    public int getY(int index) {
+        return ys[index];
+    }
+
+    /**
+     * Sets the position the object at the given index had in the previous frame, so
+     * renderers can move it smoothly from there to its current position.
+     *
+     * @param index the index of the object, between 0 and size() - 1.
+     * @param x the previous x coordinate of the object.
+     * @param y the previous y coordinate of the object.
+     */
+    public void setFrom(int index, int x, int y) {
+        fromXs[index] = x;
+        fromYs[index] = y;
+    }
+
+    /**
+     * Returns the x coordinate the object at the given index had in the previous frame.
+     *
+     * @param index the index of the object, between 0 and size() - 1.
+     * @return the previous x coordinate, or the current one if it was not set.
+     */
+    public int getFromX(int index) {
+        return fromXs[index];
+    }
+
+    /**
+     * Returns the y coordinate the object at the given index had in the previous frame.
+     *
+     * @param index the index of the object, between 0 and size() - 1.
+     * @return the previous y coordinate, or the current one if it was not set.
+     */
+    public int getFromY(int index) {
+        return fromYs[index];
+    }
+
+    /**
+     * Returns whether the object at the given index has moved since the previous frame.
+     *
+     * @param index the index of the object, between 0 and size() - 1.
+     * @return true if the previous and current positions differ.
+     */
+    public boolean isMoving(int index) {
+        return fromXs[index] != xs[index] || fromYs[index] != ys[index];
+    }
+}
@@ -0,0 +1,93 @@
+package game.ui;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded, lock-free queue of primitive key codes passed from a single producer
+ * (the input thread) to a single consumer (the simulation).
+ *
+ * Key codes are stored in a fixed ring buffer, so offering and polling never allocate.
+ * The producer only ever writes the tail and the consumer only ever writes the head,
+ * which makes ordered (lazy) writes of those counters sufficient for safe publication.
+ */
+public class InputQueue {
+
+    /**
+     * Value returned by poll() when the queue is empty.
+     */
+    public static final int EMPTY = -1;
+
+    private final int[] buffer;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong(); // Next slot to read, written by consumer
+    private final AtomicLong tail = new AtomicLong(); // Next slot to write, written by producer
+
+    /**
+     * Creates an input queue holding at most the given number of key codes.
+     *
+     * @param capacity the maximum number of pending key codes, rounded up to a power of two.
+     * @throws IllegalArgumentException if capacity is not positive.
+     */
+    public InputQueue(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive.");
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.buffer = new int[size];
+        this.mask = size - 1;
+    }
+
+    /**
+     * Adds a key code to the queue. Must only be called by the producer.
+     * If the queue is full the key code is dropped.
+     *
+     * @param keyCode the key code to add, must not be negative.
+     * @return true if the key code was added, false if the queue was full.
+     */
+    public boolean offer(int keyCode) {
+        long currentTail = tail.get();
+        if (currentTail - head.get() == buffer.length) {
+            return false;
+        }
+        buffer[(int) currentTail & mask] = keyCode;
+        tail.lazySet(currentTail + 1);
+        return true;
+    }
+
+    /**
+     * Removes and returns the oldest key code. Must only be called by the consumer.
+     *
+     * @return the oldest key code, or EMPTY if there are none.
+     */
+    public int poll() {
+        long currentHead = head.get();
+        if (currentHead == tail.get()) {
+            return EMPTY;
+        }
+        int keyCode = buffer[(int) currentHead & mask];
+        head.lazySet(currentHead + 1);
+        return keyCode;
+    }
+
+    /**
+     * Returns the number of key codes currently waiting in the queue.
+     *
+     * @return the number of pending key codes.
+     */
+    public int size() {
+        long currentHead = head.get();
+        return (int) (tail.get() - currentHead);
+    }
+
+    /**
+     * Returns the maximum number of key codes the queue can hold.
+     *
+     * @return the capacity of the queue.
+     */
+    public int capacity() {
+        return buffer.length;
+    }
+}
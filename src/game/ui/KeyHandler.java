@@ -11,4 +11,14 @@ public interface KeyHandler {
      * @param key the given key
      */
     void onPress(String key);
+
+    /**
+     * Listener for the given key code. By default passes the key on as text; handlers that can
+     * act on key codes directly should override this to avoid working with strings.
+     *
+     * @param keyCode the character code of the given key
+     */
+    default void onPress(int keyCode) {
+        onPress(KeyText.of(keyCode));
+    }
 }
@@ -0,0 +1,28 @@
+package game.ui;
+
+/**
+ * Cached single-character strings for key codes, so passing an ASCII key as text never allocates.
+ */
+final class KeyText {
+
+    private static final String[] ASCII = new String[128];
+
+    static {
+        for (int key = 0; key < ASCII.length; key++) {
+            ASCII[key] = String.valueOf((char) key);
+        }
+    }
+
+    private KeyText() {
+    }
+
+    /**
+     * Returns the text of the given key code.
+     *
+     * @param keyCode the character code of the key.
+     * @return a single-character string for the key.
+     */
+    static String of(int keyCode) {
+        return keyCode >= 0 && keyCode < ASCII.length ? ASCII[keyCode] : String.valueOf((char) keyCode);
+    }
+}
@@ -0,0 +1,55 @@
+package game.ui;
+
+import game.core.SpaceObject;
+import game.core.SpaceObjectKind;
+
+import java.util.List;
+
+/**
+ * Records where each rendered object was in the previous frame in new frame snapshots, so
+ * renderers can interpolate between the two positions.
+ *
+ * Objects are followed from frame to frame by an EntityTracker. An object that was not in
+ * the previous frame starts where it is, so it appears without sliding in from elsewhere.
+ */
+public class MotionTracker implements EntityTracker.Listener {
+
+    private final EntityTracker entities = new EntityTracker();
+    private FrameSnapshot snapshot; // The snapshot being updated by track()
+
+    /**
+     * Sets the previous position of every object in a snapshot just captured from the given
+     * objects, then remembers their current positions for the next frame.
+     *
+     * @param objects the objects the snapshot was captured from, in the same order.
+     * @param snapshot the snapshot to update.
+     */
+    public void track(List<SpaceObject> objects, FrameSnapshot snapshot) {
+        this.snapshot = snapshot;
+        try {
+            entities.update(objects, this);
+        } finally {
+            this.snapshot = null;
+        }
+    }
+
+    @Override
+    public void movedFrom(int index, int fromX, int fromY) {
+        snapshot.setFrom(index, fromX, fromY);
+    }
+
+    @Override
+    public void spawned(int id, SpaceObjectKind kind, int x, int y) {
+        // Captured snapshots already start objects where they are
+    }
+
+    @Override
+    public void moved(int id, int x, int y) {
+        // Handled by movedFrom(), which knows the object's index
+    }
+
+    @Override
+    public void removed(int id) {
+        // Nothing is drawn for removed objects
+    }
+}
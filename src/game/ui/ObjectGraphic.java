@@ -1,8 +1,6 @@
 package game.ui;
 
-import javax.imageio.ImageIO;
 import java.awt.*;
-import java.io.File;
 import java.io.IOException;
 
 /**
@@ -14,13 +12,14 @@ public class ObjectGraphic {
 
     /**
      * Creates a new ObjectGraphic with the given text and image.
+     * Images are shared between graphics with the same path; see Assets.
      * @param textRepresentation the given text
      * @param pathToImage the given image
      */
     public ObjectGraphic(String textRepresentation, String pathToImage) {
         this.textRepresentation = textRepresentation;
         try {
-            this.graphicalRepresentation = ImageIO.read(new File(pathToImage));
+            this.graphicalRepresentation = Assets.image(pathToImage);
         } catch (IOException e) {
             // programming error, turn into runtime
             throw new RuntimeException("Image path not found: " + pathToImage);
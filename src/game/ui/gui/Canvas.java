@@ -1,15 +1,53 @@
 package game.ui.gui;
 
-import game.core.SpaceObject;
+import game.core.SpaceObjectKind;
+import game.ui.FrameExchange;
+import game.ui.FrameSnapshot;
 
 import javax.swing.*;
 import java.awt.*;
+import java.awt.image.BufferedImage;
 import java.awt.image.ImageObserver;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 class Canvas extends JPanel {
-    private List<SpaceObject> objects = new ArrayList<>();
+    private static final int DISPLAY_INTERVAL = 7; // Milliseconds between animation frames (~144 Hz)
+
+    private final FrameExchange frames = new FrameExchange();
+    private final AtomicReferenceArray<Image> sprites =
+            new AtomicReferenceArray<>(SpaceObjectKind.values().length);
+    private final Map<Class<?>, Image> otherSprites = new HashMap<>(); // Sprites of OTHER objects by class
+    private final ExecutorService atlasBuilder = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "sprite-atlas");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicInteger atlasRequests = new AtomicInteger(); // Newest rebuild requested
+    private volatile SpriteAtlas atlas; // Sprites scaled to the cell size, once built
+    private final DirtyCells cells; // Cells that changed since the board was last drawn
+    private BufferedImage board; // The drawn frame, copied to the screen when painting
+    private SpriteAtlas boardAtlas; // The atlas the board was drawn with
+    private boolean drewNative; // Whether the board holds sprites drawn at their native size
+    private long framesDrawn; // Frames drawn since the repaint fraction was last taken
+    private long cellsDrawn; // Cells redrawn since the repaint fraction was last taken
+    private boolean interpolated = true; // Whether moving objects slide between cells
+    private int tickMillis = 100; // Time between frames, over which objects slide
+    private final Timer animation = new Timer(DISPLAY_INTERVAL, e -> animate());
+    private FrameSnapshot shown; // The frame the board was drawn from
+    private long shownSequence = -1;
+    private long shownAt; // When the shown frame arrived, in nanoseconds
+    private boolean sliding; // Whether moving objects of the shown frame are drawn over the board
+    private Rectangle[] motion = new Rectangle[0]; // Cells each sliding object crosses
+    private int movers; // The number of rectangles in motion in use
+    private Rectangle[] shownMotion = new Rectangle[0]; // Cells objects slid across last frame
+    private int shownMovers;
+    private Runnable firstFrameListener; // Run once the first objects reach the screen
     private final int width;
     private final int height;
     private int pixelWidth = 0;
@@ -18,16 +56,99 @@ class Canvas extends JPanel {
     public Canvas(int width, int height) {
         this.width = width;
         this.height = height;
+        this.cells = new DirtyCells(width, height);
         this.setBackground(Color.black);
     }
 
     public void setGraphicalDimensions(int pixelWidth, int pixelHeight) {
         this.pixelWidth = pixelWidth;
         this.pixelHeight = pixelHeight;
+        rebuildAtlas();
+    }
+
+    /**
+     * Returns the exchange frames are published to. Frames are written by the game tick and
+     * read when painting.
+     */
+    public FrameExchange getFrames() {
+        return frames;
+    }
+
+    /**
+     * Sets whether objects that moved since the previous frame slide smoothly from their old
+     * cell to their new one over the following tick, rather than jumping. Only the drawing is
+     * affected; the game itself still moves objects a whole cell at a time.
+     */
+    public void setInterpolated(boolean interpolated) {
+        this.interpolated = interpolated;
+        redraw();
+    }
+
+    /**
+     * Sets the time between frames, over which moving objects slide.
+     */
+    public void setTickInterval(int tickMillis) {
+        this.tickMillis = tickMillis;
+    }
+
+    /**
+     * Sets a task to run on the event dispatch thread after the first frame holding any
+     * objects has been painted to the screen.
+     */
+    public void onFirstFrame(Runnable listener) {
+        this.firstFrameListener = listener;
     }
 
-    public void updateSpaceObjects(List<SpaceObject> objects) {
-        this.objects = objects;
+    public boolean hasSprite(SpaceObjectKind kind) {
+        return sprites.get(kind.ordinal()) != null;
+    }
+
+    public void setSprite(SpaceObjectKind kind, Image sprite) {
+        sprites.set(kind.ordinal(), sprite);
+        rebuildAtlas();
+    }
+
+    /**
+     * Returns whether a sprite has been set for objects of the given class, which are not
+     * one of the standard kinds.
+     */
+    public boolean hasSprite(Class<?> type) {
+        return otherSprites.containsKey(type);
+    }
+
+    /**
+     * Sets the sprite for objects of the given class, which are not one of the standard
+     * kinds. These sprites are drawn at their native size rather than from the atlas.
+     */
+    public void setSprite(Class<?> type, Image sprite) {
+        otherSprites.put(type, sprite);
+    }
+
+    /**
+     * Rebuilds the sprite atlas for the current cell size and sprites on a background thread,
+     * then repaints. Until it is ready, the previous atlas is drawn scaled to the new cells.
+     * Only the newest of several pending rebuilds, such as while a window is being dragged
+     * to a new size, is built.
+     */
+    private void rebuildAtlas() {
+        int cellWidth = pixelWidth / width;
+        int cellHeight = pixelHeight / height;
+        if (cellWidth <= 0 || cellHeight <= 0) {
+            return;
+        }
+        Image[] images = new Image[sprites.length()];
+        for (int i = 0; i < images.length; i++) {
+            images[i] = sprites.get(i);
+        }
+        GraphicsConfiguration config = getGraphicsConfiguration();
+        int request = atlasRequests.incrementAndGet();
+        atlasBuilder.execute(() -> {
+            if (request != atlasRequests.get()) {
+                return; // A newer rebuild is queued
+            }
+            atlas = SpriteAtlas.build(images, cellWidth, cellHeight, config);
+            SwingUtilities.invokeLater(this::redraw);
+        });
     }
 
     private int getPixelX(int x) {
@@ -46,15 +167,265 @@ class Canvas extends JPanel {
         return getPixelY(y) + (pixelHeight / height / 2);
     }
 
+    /**
+     * Draws the newest published frame onto the board and schedules the changed part of the
+     * board to be copied to the screen. Only cells whose objects changed since the previous
+     * frame are cleared and redrawn. Every cell is redrawn instead if the board has been
+     * resized, the atlas has changed, or some object cannot be drawn within its cell.
+     *
+     * When interpolating, objects that moved are left off the board and drawn over it while
+     * painting, part way between their old and new cells, and an animation timer repaints
+     * the cells they cross until the slide is complete.
+     * Must be called on the event dispatch thread.
+     */
+    public void frameChanged() {
+        FrameSnapshot frame = frames.latest();
+        SpriteAtlas current = atlas;
+        int cellWidth = pixelWidth / width;
+        int cellHeight = pixelHeight / height;
+        if (cellWidth <= 0 || cellHeight <= 0) {
+            return;
+        }
+        if (board == null || board.getWidth() != cellWidth * width
+                || board.getHeight() != cellHeight * height) {
+            GraphicsConfiguration config = getGraphicsConfiguration();
+            board = config == null
+                    ? new BufferedImage(cellWidth * width, cellHeight * height, BufferedImage.TYPE_INT_RGB)
+                    : config.createCompatibleImage(cellWidth * width, cellHeight * height);
+            cells.invalidate();
+        }
+        if (current != boardAtlas || current == null
+                || current.getCellWidth() != cellWidth || current.getCellHeight() != cellHeight) {
+            cells.invalidate(); // Sprites are not drawn at the cell size
+        }
+        boolean drawsNative = false;
+        for (int i = 0; i < frame.size(); i++) {
+            if (frame.getKind(i) == SpaceObjectKind.OTHER
+                    || current == null || !current.has(frame.getKind(i).ordinal())) {
+                drawsNative = true;
+                break;
+            }
+        }
+        if (drawsNative || drewNative) {
+            cells.invalidate(); // Native size sprites may spill into neighbouring cells
+        }
+        drewNative = drawsNative;
+        boolean slide = interpolated && !drawsNative;
+        cells.update(frame, slide);
+        boardAtlas = current;
+        if (frame.getSequence() != shownSequence) {
+            shownSequence = frame.getSequence();
+            shownAt = System.nanoTime();
+        }
+        shown = frame;
+
+        Graphics2D g = board.createGraphics();
+        try {
+            g.setColor(getBackground());
+            if (cells.isFull()) {
+                g.fillRect(0, 0, board.getWidth(), board.getHeight());
+            } else {
+                for (int y = cells.getMinY(); y <= cells.getMaxY(); y++) {
+                    for (int x = cells.getMinX(); x <= cells.getMaxX(); x++) {
+                        if (cells.isDirty(x, y)) {
+                            g.fillRect(getPixelX(x), getPixelY(y), cellWidth, cellHeight);
+                        }
+                    }
+                }
+            }
+            for (int i = 0; i < frame.size(); i++) {
+                if (slide && frame.isMoving(i)) {
+                    continue;
+                }
+                if (cells.isFull() || cells.isDirty(frame.getX(i), frame.getY(i))) {
+                    drawObject(g, current, frame, i);
+                }
+            }
+        } finally {
+            g.dispose();
+        }
+
+        framesDrawn++;
+        cellsDrawn += cells.count();
+        trackMotion(frame, slide, cellWidth, cellHeight);
+        sliding = movers > 0;
+        if (cells.isFull()) {
+            repaint();
+        } else {
+            if (cells.count() > 0) {
+                paintDirtyRuns(cellWidth, cellHeight);
+            }
+            for (int i = 0; i < shownMovers; i++) {
+                paintImmediately(shownMotion[i]); // Clear the objects that were sliding
+            }
+            paintMotion();
+        }
+        if (sliding) {
+            animation.start();
+        } else {
+            animation.stop();
+        }
+    }
+
+    /**
+     * Replaces the rectangles sliding objects cross with those of the given frame, keeping
+     * the previous frame's rectangles so they can be cleared. Rectangles are reused from
+     * frame to frame.
+     */
+    private void trackMotion(FrameSnapshot frame, boolean slide, int cellWidth, int cellHeight) {
+        Rectangle[] swap = shownMotion;
+        shownMotion = motion;
+        shownMovers = movers;
+        motion = swap;
+        movers = 0;
+        if (!slide) {
+            return;
+        }
+        for (int i = 0; i < frame.size(); i++) {
+            if (!frame.isMoving(i)) {
+                continue;
+            }
+            if (movers == motion.length) {
+                motion = Arrays.copyOf(motion, Math.max(8, movers * 2));
+            }
+            if (motion[movers] == null) {
+                motion[movers] = new Rectangle();
+            }
+            Rectangle area = motion[movers++];
+            area.setBounds(getPixelX(frame.getFromX(i)), getPixelY(frame.getFromY(i)),
+                    cellWidth, cellHeight);
+            int x = getPixelX(frame.getX(i));
+            int y = getPixelY(frame.getY(i));
+            area.add(x, y);
+            area.add(x + cellWidth, y + cellHeight);
+        }
+    }
+
+    /**
+     * Copies the cells each sliding object crosses to the screen, one object at a time, so
+     * objects sliding far apart do not repaint everything between them.
+     */
+    private void paintMotion() {
+        for (int i = 0; i < movers; i++) {
+            paintImmediately(motion[i]);
+        }
+    }
+
+    /**
+     * Copies each run of dirty cells within a row to the screen. The runs are painted
+     * immediately rather than with repaint(), because Swing merges pending repaints of a
+     * component into their bounding box, which would copy every cell between two objects
+     * changing at opposite corners of the board.
+     */
+    private void paintDirtyRuns(int cellWidth, int cellHeight) {
+        for (int y = cells.getMinY(); y <= cells.getMaxY(); y++) {
+            int x = cells.getMinX();
+            while (x <= cells.getMaxX()) {
+                if (!cells.isDirty(x, y)) {
+                    x++;
+                    continue;
+                }
+                int start = x;
+                while (x <= cells.getMaxX() && cells.isDirty(x, y)) {
+                    x++;
+                }
+                paintImmediately(getPixelX(start), getPixelY(y), (x - start) * cellWidth, cellHeight);
+            }
+        }
+    }
+
+    /**
+     * Repaints the sliding objects, stopping once they have reached their new cells.
+     */
+    private void animate() {
+        paintMotion();
+        if (slideFraction() >= 1) {
+            animation.stop();
+        }
+    }
+
+    /**
+     * Returns how far through the current tick the shown frame is, from 0 to 1.
+     */
+    private double slideFraction() {
+        double elapsed = (System.nanoTime() - shownAt) / 1e6;
+        return tickMillis <= 0 ? 1 : Math.min(1, elapsed / tickMillis);
+    }
+
+    /**
+     * Redraws every cell of the current frame, for example once a new atlas is ready.
+     */
+    private void redraw() {
+        cells.invalidate();
+        frameChanged();
+    }
+
+    /**
+     * Returns the fraction of the board's cells redrawn per frame, averaged over the frames
+     * drawn since the last call, and starts a new average.
+     *
+     * @return the fraction of cells redrawn, from 0 to 1.
+     */
+    public double takeRepaintFraction() {
+        double fraction = framesDrawn == 0 ? 0 : (double) cellsDrawn / (framesDrawn * cells.size());
+        framesDrawn = 0;
+        cellsDrawn = 0;
+        return fraction;
+    }
+
+    private void drawObject(Graphics g, SpriteAtlas current, FrameSnapshot frame, int index) {
+        int kind = frame.getKind(index).ordinal();
+        int x = frame.getX(index);
+        int y = frame.getY(index);
+        if (frame.getKind(index) == SpaceObjectKind.OTHER) {
+            drawNative(g, otherSprites.get(frame.getType(index)), x, y);
+        } else if (current != null && current.has(kind)) {
+            current.draw(g, kind, getPixelX(x), getPixelY(y),
+                    pixelWidth / width, pixelHeight / height);
+        } else {
+            drawNative(g, sprites.get(kind), x, y);
+        }
+    }
+
+    private void drawNative(Graphics g, Image image, int x, int y) {
+        if (image == null) {
+            return;
+        }
+        ImageObserver observer = (img, i, ix, iy, w, h) -> false;
+        g.drawImage(image, getPixelMidX(x) - image.getWidth(observer) / 2,
+                getPixelMidY(y) - image.getHeight(observer) / 2, observer);
+    }
+
+    /**
+     * Copies the board drawn by frameChanged() to the screen. Swing limits the copy to the
+     * area being repainted.
+     */
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
-        for (SpaceObject object : objects) {
-            ImageObserver observer = (img, i, x, y, w, h) -> false;
-            Image image = object.render().getGraphicalRepresentation();
-            int x = getPixelMidX(object.getX()) - image.getWidth(observer) / 2;
-            int y = getPixelMidY(object.getY()) - image.getHeight(observer) / 2;
-            g.drawImage(image, x, y, observer);
+        if (board == null) {
+            return;
+        }
+        g.drawImage(board, 0, 0, null);
+        if (firstFrameListener != null && shown != null && shown.size() > 0) {
+            SwingUtilities.invokeLater(firstFrameListener);
+            firstFrameListener = null;
+        }
+        if (!sliding) {
+            return;
+        }
+        double fraction = slideFraction();
+        int cellWidth = pixelWidth / width;
+        int cellHeight = pixelHeight / height;
+        for (int i = 0; i < shown.size(); i++) {
+            if (!shown.isMoving(i)) {
+                continue;
+            }
+            int fromX = getPixelX(shown.getFromX(i));
+            int fromY = getPixelY(shown.getFromY(i));
+            int x = fromX + (int) Math.round((getPixelX(shown.getX(i)) - fromX) * fraction);
+            int y = fromY + (int) Math.round((getPixelY(shown.getY(i)) - fromY) * fraction);
+            boardAtlas.draw(g, shown.getKind(i).ordinal(), x, y, cellWidth, cellHeight);
         }
     }
 
@@ -0,0 +1,173 @@
+package game.ui.gui;
+
+import game.ui.FrameSnapshot;
+import game.utility.Bitboard;
+
+import java.util.Arrays;
+
+/**
+ * Finds the board cells whose contents changed between one rendered frame and the next.
+ *
+ * Each cell is summarised by the kinds of the objects in it, in drawing order, three bits
+ * per object, so two frames draw a cell identically exactly when its summaries match.
+ * A frame is marked for a full repaint instead if any object is outside the grid or a cell
+ * holds too many objects to summarise, and after invalidate() has been called.
+ */
+class DirtyCells {
+
+    private static final int BITS_PER_OBJECT = 3;
+    private static final long FULL_SUMMARY = 1L << (Long.SIZE - 1 - BITS_PER_OBJECT);
+
+    private final int width;
+    private final int height;
+    private final Bitboard dirty;
+    private long[] shown;
+    private long[] next;
+    private boolean valid;
+    private boolean full;
+    private int count;
+    private int minX;
+    private int minY;
+    private int maxX;
+    private int maxY;
+
+    /**
+     * Creates a tracker for a grid of the given size. The first frame is a full repaint.
+     *
+     * @param width the number of columns.
+     * @param height the number of rows.
+     */
+    DirtyCells(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.dirty = new Bitboard(width, height);
+        this.shown = new long[width * height];
+        this.next = new long[width * height];
+    }
+
+    /**
+     * Makes the next frame a full repaint, for example because the cells' size or sprites
+     * have changed.
+     */
+    void invalidate() {
+        valid = false;
+    }
+
+    /**
+     * Compares a frame with the previous one, marking the cells that changed.
+     *
+     * @param frame the new frame.
+     */
+    void update(FrameSnapshot frame) {
+        update(frame, false);
+    }
+
+    /**
+     * Compares a frame with the previous one, marking the cells that changed.
+     *
+     * @param frame the new frame.
+     * @param skipMoving whether to leave out objects that moved since their previous frame,
+     *                   because they are drawn separately.
+     */
+    void update(FrameSnapshot frame, boolean skipMoving) {
+        Arrays.fill(next, 0);
+        boolean exact = true; // Whether every object was summarised
+        for (int i = 0; i < frame.size(); i++) {
+            if (skipMoving && frame.isMoving(i)) {
+                continue;
+            }
+            int x = frame.getX(i);
+            int y = frame.getY(i);
+            if (x < 0 || x >= width || y < 0 || y >= height) {
+                exact = false; // Drawn outside the grid, where cells are not tracked
+                continue;
+            }
+            int cell = y * width + x;
+            if (next[cell] >= FULL_SUMMARY) {
+                exact = false;
+                continue;
+            }
+            next[cell] = (next[cell] << BITS_PER_OBJECT) | (frame.getKind(i).ordinal() + 1);
+        }
+
+        dirty.clear();
+        count = 0;
+        minX = width;
+        minY = height;
+        maxX = -1;
+        maxY = -1;
+        full = !valid || !exact;
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int cell = y * width + x;
+                if (full || next[cell] != shown[cell]) {
+                    dirty.set(x, y);
+                    count++;
+                    minX = Math.min(minX, x);
+                    minY = Math.min(minY, y);
+                    maxX = Math.max(maxX, x);
+                    maxY = Math.max(maxY, y);
+                }
+            }
+        }
+        long[] swap = shown;
+        shown = next;
+        next = swap;
+        // Objects that were not summarised are only cleared by another full repaint
+        valid = exact;
+    }
+
+    /**
+     * Returns whether the last frame must be repainted in full.
+     *
+     * @return true for a full repaint.
+     */
+    boolean isFull() {
+        return full;
+    }
+
+    /**
+     * Returns whether the given cell changed in the last frame.
+     *
+     * @param x the column.
+     * @param y the row.
+     * @return true if the cell must be repainted.
+     */
+    boolean isDirty(int x, int y) {
+        return dirty.get(x, y);
+    }
+
+    /**
+     * Returns the number of cells that changed in the last frame.
+     *
+     * @return the number of cells to repaint.
+     */
+    int count() {
+        return count;
+    }
+
+    /**
+     * Returns the number of cells in the grid.
+     *
+     * @return width times height.
+     */
+    int size() {
+        return width * height;
+    }
+
+    int getMinX() {
+        return minX;
+    }
+
+    int getMinY() {
+        return minY;
+    }
+
+    int getMaxX() {
+        return maxX;
+    }
+
+    int getMaxY() {
+        return maxY;
+    }
+}
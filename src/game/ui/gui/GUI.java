@@ -2,8 +2,14 @@ package game.ui.gui;
 
 import game.achievements.Achievement;
 import game.core.SpaceObject;
+import game.core.SpaceObjectKind;
 import game.GameModel;
+import game.ui.Assets;
+import game.ui.FrameExchange;
+import game.ui.FrameSnapshot;
+import game.ui.InputQueue;
 import game.ui.KeyHandler;
+import game.ui.MotionTracker;
 import game.ui.Tickable;
 import game.ui.UI;
 
@@ -13,8 +19,13 @@ import java.awt.event.ComponentAdapter;
 import java.awt.event.ComponentEvent;
 import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Represents a GUI implementation of the UI interface.
@@ -23,6 +34,10 @@ public class GUI implements UI {
     private static final int TICK_SPEED = 100;
     private static final int WINDOW_HEIGHT = 600;
     private static final int WINDOW_WIDTH = 650;
+    private static final int INPUT_CAPACITY = 64;
+    private static final int REPAINT_REPORT_FRAMES = 100;
+    // Whether to report the share of the board redrawn, with -Dgame.reportRepaints=true
+    private static final boolean REPORT_REPAINTS = Boolean.getBoolean("game.reportRepaints");
 
     // GAME_HEIGHT + 1 required for bottom row (row 19) to render correctly
     private final Canvas canvas = new Canvas(GameModel.GAME_WIDTH, GameModel.GAME_HEIGHT + 1);
@@ -31,18 +46,26 @@ public class GUI implements UI {
 
     private final List<Tickable> tickables = new ArrayList<>();
     private final List<KeyHandler> handlers = new ArrayList<>();
+    private final InputQueue inputs = new InputQueue(INPUT_CAPACITY);
+    private final MotionTracker motion = new MotionTracker();
 
     private Timer gameTimer;
     private int tick = 0;
+    private int framesRendered = 0;
 
     /**
      * Starts the GUI.
      */
     @Override
     public void start() {
+        long startTime = System.nanoTime();
+        CompletableFuture<Long> assetsLoaded = preloadAssets(startTime);
+        canvas.onFirstFrame(() -> logFirstFrame(startTime, assetsLoaded));
+
         JFrame frame = new JFrame();
         frame.setTitle("Space Shooter");
         frame.setSize(WINDOW_WIDTH, WINDOW_HEIGHT); // Sets default window size
+        canvas.setTickInterval(TICK_SPEED);
 
 
         GroupLayout layout = new GroupLayout(frame.getContentPane());
@@ -81,10 +104,12 @@ public class GUI implements UI {
 
             @Override
             public void keyPressed(KeyEvent e) {
-                for (KeyHandler handler : handlers) {
-                    handler.onPress(e.getKeyChar() + "");
+                inputs.offer(e.getKeyChar());
+                // While the game is paused no tick will drain the queue, so drain it here
+                if (!gameTimer.isRunning()) {
+                    dispatchInputs();
+                    canvas.repaint();
                 }
-                canvas.updateUI();
             }
 
             @Override
@@ -93,9 +118,9 @@ public class GUI implements UI {
         });
 
         gameTimer = new Timer(TICK_SPEED, (e) -> {
+            dispatchInputs();
             for (Tickable tickable : tickables) {
                 tickable.tick(tick++);
-                canvas.updateUI();
             }
         });
         gameTimer.start();
@@ -103,6 +128,62 @@ public class GUI implements UI {
         logWelcome();
     }
 
+    /**
+     * Starts decoding the game's images on a pool of background threads, so they are ready
+     * by the time the first frame needs them.
+     *
+     * @return a future giving the time the images were ready, in System.nanoTime() units.
+     */
+    private CompletableFuture<Long> preloadAssets(long startTime) {
+        ExecutorService loaders = Executors.newFixedThreadPool(
+                Runtime.getRuntime().availableProcessors(), task -> {
+                    Thread thread = new Thread(task, "asset-loader");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        try {
+            return Assets.preload(loaders).handle((none, error) -> {
+                loaders.shutdown();
+                return System.nanoTime();
+            });
+        } catch (IOException e) {
+            loaders.shutdown();
+            System.err.println("Could not read the asset pack: "
+                    + e.getMessage());
+            return CompletableFuture.completedFuture(startTime);
+        }
+    }
+
+    /**
+     * Reports how long the first frame took to reach the screen, from when the UI started and
+     * from when the JVM started, and how long the images took to decode. This is a startup
+     * diagnostic, so it goes to standard error rather than the game log.
+     */
+    private void logFirstFrame(long startTime, CompletableFuture<Long> assetsLoaded) {
+        long now = System.nanoTime();
+        long sinceLaunch = System.currentTimeMillis()
+                - ManagementFactory.getRuntimeMXBean().getStartTime();
+        String assets = assetsLoaded.isDone()
+                ? (assetsLoaded.join() - startTime) / 1_000_000 + " ms"
+                : "still loading";
+        System.err.printf("First frame in %d ms (%d ms after launch), assets decoded in %s.%n",
+                (now - startTime) / 1_000_000, sinceLaunch, assets);
+    }
+
+    /**
+     * Passes every key code waiting in the input queue to the stored KeyHandlers, in the
+     * order the keys were pressed. Called at the start of each tick so that input never
+     * changes the game while a tick is in progress.
+     */
+    private void dispatchInputs() {
+        int keyCode;
+        while ((keyCode = inputs.poll()) != InputQueue.EMPTY) {
+            for (KeyHandler handler : handlers) {
+                handler.onPress(keyCode);
+            }
+        }
+    }
+
     /**
      * Displays the game welcome message and instructions.
      */
@@ -159,13 +240,32 @@ public class GUI implements UI {
 
     /**
      * Renders the provided objects, and refreshes the UI.
+     * The objects are copied into a frame snapshot before returning, so the canvas never
+     * reads the list while the game is changing it.
      *
      * @param objects the list of SpaceObjects to be rendered.
      */
     @Override
     public void render(List<SpaceObject> objects) {
-        canvas.updateSpaceObjects(objects);
-        canvas.updateUI();
+        FrameExchange frames = canvas.getFrames();
+        FrameSnapshot frame = frames.beginFrame();
+        frame.capture(objects, frames.nextSequence());
+        motion.track(objects, frame);
+        for (int i = 0; i < frame.size(); i++) {
+            if (frame.getKind(i) == SpaceObjectKind.OTHER) {
+                if (!canvas.hasSprite(frame.getType(i))) {
+                    canvas.setSprite(frame.getType(i), objects.get(i).render().getGraphicalRepresentation());
+                }
+            } else if (!canvas.hasSprite(frame.getKind(i))) {
+                canvas.setSprite(frame.getKind(i), objects.get(i).render().getGraphicalRepresentation());
+            }
+        }
+        frames.publish();
+        canvas.frameChanged();
+        if (REPORT_REPAINTS && ++framesRendered % REPAINT_REPORT_FRAMES == 0) {
+            System.err.printf("Redrew %.1f%% of the board per frame over the last %d frames.%n",
+                    canvas.takeRepaintFraction() * 100, REPAINT_REPORT_FRAMES);
+        }
     }
 
     /**
@@ -0,0 +1,150 @@
+package game.ui.gui;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * A single image holding one sprite per object kind, each already scaled to the size of a
+ * board cell, side by side in kind order.
+ *
+ * Scaling a sprite every time it is drawn is slow, so the atlas is built once per cell size
+ * and each object is then drawn as a plain copy of its slot. Sprites keep their aspect ratio
+ * and are centred in their slot. Atlases are immutable once built, so one can be built on a
+ * background thread while another is being drawn.
+ */
+class SpriteAtlas {
+
+    private final Image image;
+    private final boolean[] present;
+    private final int cellWidth;
+    private final int cellHeight;
+
+    private SpriteAtlas(Image image, boolean[] present, int cellWidth, int cellHeight) {
+        this.image = image;
+        this.present = present;
+        this.cellWidth = cellWidth;
+        this.cellHeight = cellHeight;
+    }
+
+    /**
+     * Builds an atlas from the given sprites, indexed by object kind ordinal.
+     *
+     * @param sprites the sprite for each kind, or null for kinds without one.
+     * @param cellWidth the width of a cell in pixels.
+     * @param cellHeight the height of a cell in pixels.
+     * @param config the configuration of the screen the atlas is drawn to, so the image can
+     *               be kept in video memory, or null to build a plain image.
+     * @return the atlas.
+     * @throws IllegalArgumentException if the cell size is not positive.
+     */
+    static SpriteAtlas build(Image[] sprites, int cellWidth, int cellHeight,
+                             GraphicsConfiguration config) {
+        if (cellWidth <= 0 || cellHeight <= 0) {
+            throw new IllegalArgumentException("Cell size must be positive.");
+        }
+        int width = cellWidth * sprites.length;
+        BufferedImage image = config == null
+                ? new BufferedImage(width, cellHeight, BufferedImage.TYPE_INT_ARGB)
+                : config.createCompatibleImage(width, cellHeight, Transparency.TRANSLUCENT);
+        boolean[] present = new boolean[sprites.length];
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+                    RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            for (int kind = 0; kind < sprites.length; kind++) {
+                Image sprite = sprites[kind];
+                if (sprite == null || sprite.getWidth(null) <= 0 || sprite.getHeight(null) <= 0) {
+                    continue;
+                }
+                double scale = Math.min((double) cellWidth / sprite.getWidth(null),
+                        (double) cellHeight / sprite.getHeight(null));
+                int spriteWidth = Math.max(1, (int) Math.round(sprite.getWidth(null) * scale));
+                int spriteHeight = Math.max(1, (int) Math.round(sprite.getHeight(null) * scale));
+                Image scaled = halve(sprite, spriteWidth, spriteHeight);
+                g.drawImage(scaled, kind * cellWidth + (cellWidth - spriteWidth) / 2,
+                        (cellHeight - spriteHeight) / 2, spriteWidth, spriteHeight, null);
+                present[kind] = true;
+            }
+        } finally {
+            g.dispose();
+        }
+        return new SpriteAtlas(image, present, cellWidth, cellHeight);
+    }
+
+    /**
+     * Halves a sprite repeatedly until it is at most twice the target size, as a single
+     * bilinear step from a much larger image skips most of its pixels.
+     */
+    private static Image halve(Image sprite, int targetWidth, int targetHeight) {
+        Image current = sprite;
+        int width = sprite.getWidth(null);
+        int height = sprite.getHeight(null);
+        while (width >= targetWidth * 2 && height >= targetHeight * 2) {
+            width /= 2;
+            height /= 2;
+            BufferedImage smaller = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g = smaller.createGraphics();
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+                    RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.drawImage(current, 0, 0, width, height, null);
+            g.dispose();
+            current = smaller;
+        }
+        return current;
+    }
+
+    /**
+     * Returns whether the atlas holds a sprite for the given kind.
+     *
+     * @param kind the object kind ordinal.
+     * @return true if the kind has a sprite.
+     */
+    boolean has(int kind) {
+        return kind >= 0 && kind < present.length && present[kind];
+    }
+
+    /**
+     * Returns the width of a cell the sprites were scaled to.
+     *
+     * @return the cell width in pixels.
+     */
+    int getCellWidth() {
+        return cellWidth;
+    }
+
+    /**
+     * Returns the height of a cell the sprites were scaled to.
+     *
+     * @return the cell height in pixels.
+     */
+    int getCellHeight() {
+        return cellHeight;
+    }
+
+    /**
+     * Returns the atlas image.
+     *
+     * @return the image holding every sprite.
+     */
+    Image getImage() {
+        return image;
+    }
+
+    /**
+     * Draws the sprite of the given kind into the cell with the given top left corner and
+     * size. When the cell is the size the atlas was built for, this is a plain copy.
+     *
+     * @param g the graphics to draw with.
+     * @param kind the object kind ordinal.
+     * @param x the left of the cell in pixels.
+     * @param y the top of the cell in pixels.
+     * @param width the width of the cell in pixels.
+     * @param height the height of the cell in pixels.
+     */
+    void draw(Graphics g, int kind, int x, int y, int width, int height) {
+        int sourceX = kind * cellWidth;
+        g.drawImage(image, x, y, x + width, y + height,
+                sourceX, 0, sourceX + cellWidth, cellHeight, null);
+    }
+}
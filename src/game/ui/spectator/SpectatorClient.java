@@ -0,0 +1,66 @@
+package game.ui.spectator;
+
+import game.GameModel;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.Map;
+
+/**
+ * Watches a game streamed by a SpectatorStream, redrawing the board in the terminal on
+ * every frame.
+ *
+ * Run with: java game.ui.spectator.SpectatorClient [host] port
+ */
+public class SpectatorClient {
+
+    /**
+     * Connects to a spectator stream and displays it until the game disconnects.
+     * @param args optionally the host (localhost by default), followed by the port
+     * @throws IOException if the connection fails
+     */
+    public static void main(String[] args) throws IOException {
+        String host = args.length > 1 ? args[0] : "localhost";
+        int port = Integer.parseInt(args[args.length - 1]);
+        SpectatorDecoder decoder = new SpectatorDecoder();
+        try (SocketChannel channel = SocketChannel.open(new InetSocketAddress(host, port))) {
+            ByteBuffer length = ByteBuffer.allocate(Integer.BYTES);
+            ByteBuffer message = ByteBuffer.allocate(8192);
+            while (readFully(channel, length.clear())) {
+                int size = length.flip().getInt();
+                if (message.capacity() < size) {
+                    message = ByteBuffer.allocate(size);
+                }
+                message.clear().limit(size);
+                if (!readFully(channel, message)) {
+                    break;
+                }
+                if (decoder.apply(message.flip())) {
+                    show(decoder);
+                }
+            }
+        }
+    }
+
+    private static boolean readFully(SocketChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void show(SpectatorDecoder decoder) {
+        StringBuilder sb = new StringBuilder("\u001b[H\u001b[2J");
+        sb.append("Frame ").append(decoder.getFrame()).append('\n');
+        sb.append(decoder.draw(GameModel.GAME_WIDTH, GameModel.GAME_HEIGHT));
+        for (Map.Entry<String, String> stat : decoder.getStats().entrySet()) {
+            sb.append(stat.getKey()).append(": ").append(stat.getValue()).append('\n');
+        }
+        System.out.print(sb);
+        System.out.flush();
+    }
+}
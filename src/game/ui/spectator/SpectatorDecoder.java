@@ -0,0 +1,154 @@
+package game.ui.spectator;
+
+import game.core.SpaceObjectKind;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Rebuilds the game state seen by spectators from the messages of a SpectatorEncoder.
+ */
+public class SpectatorDecoder {
+
+    private static final SpaceObjectKind[] KINDS = SpaceObjectKind.values();
+
+    private final Map<Integer, int[]> entities = new HashMap<>(); // id to {kind, x, y}
+    private final Map<String, String> stats = new LinkedHashMap<>();
+    private long frame = 0;
+    private boolean synced = false;
+
+    /**
+     * Applies one message to the state. Deltas received before the first keyframe are ignored.
+     *
+     * @param message the message, without its length prefix.
+     * @return true if the message was applied.
+     */
+    public boolean apply(ByteBuffer message) {
+        byte type = message.get();
+        long messageFrame = message.getLong();
+        if (type == SpectatorEncoder.KEYFRAME) {
+            entities.clear();
+            synced = true;
+        } else if (!synced) {
+            return false;
+        }
+        frame = messageFrame;
+        int spawned = Short.toUnsignedInt(message.getShort());
+        for (int i = 0; i < spawned; i++) {
+            int id = message.getInt();
+            int kind = message.get();
+            entities.put(id, new int[] {kind, message.getShort(), message.getShort()});
+        }
+        int moved = Short.toUnsignedInt(message.getShort());
+        for (int i = 0; i < moved; i++) {
+            int[] entity = entities.get(message.getInt());
+            short x = message.getShort();
+            short y = message.getShort();
+            if (entity != null) {
+                entity[1] = x;
+                entity[2] = y;
+            }
+        }
+        int removed = Short.toUnsignedInt(message.getShort());
+        for (int i = 0; i < removed; i++) {
+            entities.remove(message.getInt());
+        }
+        int statCount = Short.toUnsignedInt(message.getShort());
+        for (int i = 0; i < statCount; i++) {
+            stats.put(readString(message), readString(message));
+        }
+        return true;
+    }
+
+    private static String readString(ByteBuffer message) {
+        byte[] bytes = new byte[Short.toUnsignedInt(message.getShort())];
+        message.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the number of the last frame applied.
+     *
+     * @return the current frame number.
+     */
+    public long getFrame() {
+        return frame;
+    }
+
+    /**
+     * Returns the number of entities in the current frame.
+     *
+     * @return the number of entities.
+     */
+    public int getEntityCount() {
+        return entities.size();
+    }
+
+    /**
+     * Returns the kind of the entity with the given id.
+     *
+     * @param id the id of the entity.
+     * @return the kind of the entity, or null if there is no such entity.
+     */
+    public SpaceObjectKind getKind(int id) {
+        int[] entity = entities.get(id);
+        return entity == null ? null : KINDS[entity[0]];
+    }
+
+    /**
+     * Returns the x coordinate of the entity with the given id.
+     *
+     * @param id the id of an entity in the current frame.
+     * @return the x coordinate of the entity.
+     */
+    public int getX(int id) {
+        return entities.get(id)[1];
+    }
+
+    /**
+     * Returns the y coordinate of the entity with the given id.
+     *
+     * @param id the id of an entity in the current frame.
+     * @return the y coordinate of the entity.
+     */
+    public int getY(int id) {
+        return entities.get(id)[2];
+    }
+
+    /**
+     * Returns the latest value of every stat received.
+     *
+     * @return the stats, in the order they were first received.
+     */
+    public Map<String, String> getStats() {
+        return stats;
+    }
+
+    /**
+     * Draws the current frame as text, one line per row, using each kind's text representation.
+     *
+     * @param width the width of the board.
+     * @param height the height of the board.
+     * @return the board as text.
+     */
+    public String draw(int width, int height) {
+        String[] cells = new String[width * height];
+        for (int[] entity : entities.values()) {
+            if (entity[1] >= 0 && entity[1] < width && entity[2] >= 0 && entity[2] < height) {
+                cells[entity[2] * width + entity[1]] = KINDS[entity[0]].getText();
+            }
+        }
+        StringBuilder sb = new StringBuilder();
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                String cell = cells[y * width + x];
+                sb.append(cell == null ? ". " : cell);
+            }
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,180 @@
+package game.ui.spectator;
+
+import game.core.SpaceObject;
+import game.core.SpaceObjectKind;
+import game.ui.EntityTracker;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes the game state passed to a UI into compact binary spectator messages.
+ *
+ * Every message is laid out as follows, with all numbers big-endian:
+ * <pre>
+ * int    length of the rest of the message, in bytes
+ * byte   type: KEYFRAME or DELTA
+ * long   frame number
+ * short  spawned count, then per entity: int id, byte kind, short x, short y
+ * short  moved count, then per entity: int id, short x, short y
+ * short  removed count, then per entity: int id
+ * short  stat count, then per stat: short length, UTF-8 label, short length, UTF-8 value
+ * </pre>
+ * Counts are unsigned. A keyframe lists every entity as spawned and every stat, and never has moved or removed
+ * entities. A delta lists only the changes since the previous frame, so it can only be
+ * applied on top of the frame before it. Entity kinds are SpaceObjectKind ordinals.
+ */
+public class SpectatorEncoder implements EntityTracker.Listener {
+
+    /**
+     * Message type of a complete frame.
+     */
+    public static final byte KEYFRAME = 1;
+
+    /**
+     * Message type of the changes since the previous frame.
+     */
+    public static final byte DELTA = 2;
+
+    private static final int HEADER_BYTES = Integer.BYTES + Byte.BYTES + Long.BYTES;
+    private static final byte[][] NO_STATS = new byte[0][];
+
+    private final EntityTracker tracker = new EntityTracker();
+    private final Map<String, String> stats = new LinkedHashMap<>();
+    private final Map<String, String> changedStats = new LinkedHashMap<>();
+
+    // Changes found in the current frame, as flat int records
+    private int[] spawned = new int[64];
+    private int spawnedLength = 0;
+    private int[] moved = new int[64];
+    private int movedLength = 0;
+    private int[] removed = new int[16];
+    private int removedLength = 0;
+
+    private ByteBuffer delta = ByteBuffer.allocate(4096);
+    private ByteBuffer keyframe = ByteBuffer.allocate(4096);
+
+    /**
+     * Records a stat value to be sent with the next frame, if it has changed.
+     *
+     * @param label the label of the stat.
+     * @param value the value of the stat.
+     */
+    public void setStat(String label, String value) {
+        if (!value.equals(stats.put(label, value))) {
+            changedStats.put(label, value);
+        }
+    }
+
+    /**
+     * Encodes the changes between the previous frame and the given objects, together with
+     * any stats changed since the previous frame.
+     *
+     * @param objects the objects in the new frame.
+     * @param frame the number of the new frame.
+     * @return a buffer holding the message, ready to be read. Reused by the next call.
+     */
+    public ByteBuffer encodeDelta(List<SpaceObject> objects, long frame) {
+        spawnedLength = 0;
+        movedLength = 0;
+        removedLength = 0;
+        tracker.update(objects, this);
+        delta = writeMessage(delta, DELTA, frame, changedStats);
+        changedStats.clear();
+        return delta;
+    }
+
+    /**
+     * Encodes the current frame in full, with every stat.
+     *
+     * @param frame the number of the current frame.
+     * @return a buffer holding the message, ready to be read. Reused by the next call.
+     */
+    public ByteBuffer encodeKeyframe(long frame) {
+        spawnedLength = 0;
+        movedLength = 0;
+        removedLength = 0;
+        tracker.forEach(this);
+        keyframe = writeMessage(keyframe, KEYFRAME, frame, stats);
+        return keyframe;
+    }
+
+    @Override
+    public void spawned(int id, SpaceObjectKind kind, int x, int y) {
+        spawned = ensure(spawned, spawnedLength + 4);
+        spawned[spawnedLength++] = id;
+        spawned[spawnedLength++] = kind.ordinal();
+        spawned[spawnedLength++] = x;
+        spawned[spawnedLength++] = y;
+    }
+
+    @Override
+    public void moved(int id, int x, int y) {
+        moved = ensure(moved, movedLength + 3);
+        moved[movedLength++] = id;
+        moved[movedLength++] = x;
+        moved[movedLength++] = y;
+    }
+
+    @Override
+    public void removed(int id) {
+        removed = ensure(removed, removedLength + 1);
+        removed[removedLength++] = id;
+    }
+
+    private ByteBuffer writeMessage(ByteBuffer buffer, byte type, long frame, Map<String, String> statsToSend) {
+        byte[][] statBytes = statsToSend.isEmpty() ? NO_STATS : new byte[statsToSend.size() * 2][];
+        int statLength = 0;
+        int i = 0;
+        for (Map.Entry<String, String> stat : statsToSend.entrySet()) {
+            statBytes[i] = stat.getKey().getBytes(StandardCharsets.UTF_8);
+            statBytes[i + 1] = stat.getValue().getBytes(StandardCharsets.UTF_8);
+            statLength += 2 * Short.BYTES + statBytes[i].length + statBytes[i + 1].length;
+            i += 2;
+        }
+        int length = HEADER_BYTES + 4 * Short.BYTES
+                + spawnedLength / 4 * (Integer.BYTES + Byte.BYTES + 2 * Short.BYTES)
+                + movedLength / 3 * (Integer.BYTES + 2 * Short.BYTES)
+                + removedLength * Integer.BYTES
+                + statLength;
+        if (buffer.capacity() < length) {
+            buffer = ByteBuffer.allocate(Math.max(length, buffer.capacity() * 2));
+        }
+        buffer.clear();
+        buffer.putInt(length - Integer.BYTES);
+        buffer.put(type);
+        buffer.putLong(frame);
+        buffer.putShort((short) (spawnedLength / 4));
+        for (int j = 0; j < spawnedLength; j += 4) {
+            buffer.putInt(spawned[j]);
+            buffer.put((byte) spawned[j + 1]);
+            buffer.putShort((short) spawned[j + 2]);
+            buffer.putShort((short) spawned[j + 3]);
+        }
+        buffer.putShort((short) (movedLength / 3));
+        for (int j = 0; j < movedLength; j += 3) {
+            buffer.putInt(moved[j]);
+            buffer.putShort((short) moved[j + 1]);
+            buffer.putShort((short) moved[j + 2]);
+        }
+        buffer.putShort((short) removedLength);
+        for (int j = 0; j < removedLength; j++) {
+            buffer.putInt(removed[j]);
+        }
+        buffer.putShort((short) statsToSend.size());
+        for (byte[] bytes : statBytes) {
+            buffer.putShort((short) bytes.length);
+            buffer.put(bytes);
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    private static int[] ensure(int[] array, int length) {
+        return length <= array.length ? array : Arrays.copyOf(array, Math.max(length, array.length * 2));
+    }
+}
@@ -0,0 +1,223 @@
+package game.ui.spectator;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.LongFunction;
+
+/**
+ * Sends spectator messages to a file or to any number of socket connections, without ever
+ * blocking the game tick.
+ *
+ * Sockets are written in non-blocking mode. Each spectator has a bounded outgoing buffer;
+ * a spectator that has not finished reading the previous message skips the current delta,
+ * and is sent a keyframe once it catches up, since later deltas cannot be applied without
+ * the skipped one. A spectator that stays behind for too long is disconnected.
+ */
+public class SpectatorStream implements Closeable {
+
+    /**
+     * The number of consecutive frames a spectator may fall behind before being disconnected.
+     */
+    public static final int MAX_BEHIND_FRAMES = 50;
+
+    /**
+     * The largest amount of data that may be waiting for a single spectator, in bytes.
+     */
+    public static final int MAX_PENDING_BYTES = 1 << 20;
+
+    private static class Spectator {
+        private final WritableByteChannel channel;
+        private ByteBuffer pending = ByteBuffer.allocate(8192);
+        private boolean needsKeyframe = true;
+        private int behindFrames = 0;
+
+        private Spectator(WritableByteChannel channel) {
+            this.channel = channel;
+            this.pending.flip(); // Nothing waiting
+        }
+    }
+
+    private final ServerSocketChannel server;
+    private final List<Spectator> spectators = new ArrayList<>();
+
+    private SpectatorStream(ServerSocketChannel server) {
+        this.server = server;
+    }
+
+    /**
+     * Creates a stream that accepts spectator connections on the given address.
+     *
+     * @param address the address to listen on, usually a loopback address.
+     * @return a stream sending to every connected spectator.
+     * @throws IOException if the address cannot be bound.
+     */
+    public static SpectatorStream listen(InetSocketAddress address) throws IOException {
+        ServerSocketChannel server = ServerSocketChannel.open();
+        server.configureBlocking(false);
+        server.bind(address);
+        return new SpectatorStream(server);
+    }
+
+    /**
+     * Creates a stream that appends every message to the given file, starting with a keyframe.
+     *
+     * @param file the file to write to. Any existing contents are replaced.
+     * @return a stream writing to the file.
+     * @throws IOException if the file cannot be opened.
+     */
+    public static SpectatorStream toFile(Path file) throws IOException {
+        return toChannel(FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING));
+    }
+
+    /**
+     * Creates a stream that writes every message to the given channel, starting with a keyframe.
+     * The channel is treated like a spectator's socket, and is closed if it falls too far behind.
+     *
+     * @param channel the channel to write to.
+     * @return a stream writing to the channel.
+     */
+    static SpectatorStream toChannel(WritableByteChannel channel) {
+        SpectatorStream stream = new SpectatorStream(null);
+        stream.spectators.add(new Spectator(channel));
+        return stream;
+    }
+
+    /**
+     * Returns the number of spectators currently receiving messages.
+     *
+     * @return the number of spectators.
+     */
+    public int getSpectatorCount() {
+        return spectators.size();
+    }
+
+    /**
+     * Sends a frame to every spectator. Spectators that are up to date are sent the delta;
+     * spectators that have just connected or have caught up after falling behind are sent a
+     * keyframe instead. The keyframe is only encoded if some spectator needs it.
+     *
+     * @param delta the changes since the previous frame, ready to be read.
+     * @param keyframe produces the full frame with the given frame number, when needed.
+     * @param frame the number of the frame.
+     */
+    public void publish(ByteBuffer delta, LongFunction<ByteBuffer> keyframe, long frame) {
+        acceptSpectators();
+        ByteBuffer encodedKeyframe = null;
+        Iterator<Spectator> iterator = spectators.iterator();
+        while (iterator.hasNext()) {
+            Spectator spectator = iterator.next();
+            try {
+                if (!flush(spectator)) {
+                    spectator.needsKeyframe = true; // This delta is skipped
+                    if (++spectator.behindFrames > MAX_BEHIND_FRAMES) {
+                        close(spectator);
+                        iterator.remove();
+                    }
+                    continue;
+                }
+                spectator.behindFrames = 0;
+                ByteBuffer message = delta;
+                if (spectator.needsKeyframe) {
+                    if (encodedKeyframe == null) {
+                        encodedKeyframe = keyframe.apply(frame);
+                    }
+                    message = encodedKeyframe;
+                    spectator.needsKeyframe = false;
+                }
+                if (!queue(spectator, message.duplicate())) {
+                    close(spectator);
+                    iterator.remove();
+                    continue;
+                }
+                flush(spectator);
+            } catch (IOException e) {
+                close(spectator);
+                iterator.remove();
+            }
+        }
+    }
+
+    private void acceptSpectators() {
+        if (server == null) {
+            return;
+        }
+        try {
+            SocketChannel channel;
+            while ((channel = server.accept()) != null) {
+                channel.configureBlocking(false);
+                spectators.add(new Spectator(channel));
+            }
+        } catch (IOException e) {
+            // Try again on the next frame
+        }
+    }
+
+    /**
+     * Writes as much waiting data as the channel accepts without blocking.
+     *
+     * @return true if nothing is left waiting.
+     */
+    private static boolean flush(Spectator spectator) throws IOException {
+        while (spectator.pending.hasRemaining()) {
+            if (spectator.channel.write(spectator.pending) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Copies a message into the spectator's empty outgoing buffer.
+     *
+     * @return false if the message is larger than a spectator may have waiting.
+     */
+    private static boolean queue(Spectator spectator, ByteBuffer message) {
+        if (message.remaining() > MAX_PENDING_BYTES) {
+            return false;
+        }
+        if (spectator.pending.capacity() < message.remaining()) {
+            spectator.pending = ByteBuffer.allocate(
+                    Math.min(MAX_PENDING_BYTES, Math.max(message.remaining(), spectator.pending.capacity() * 2)));
+        }
+        spectator.pending.clear();
+        spectator.pending.put(message);
+        spectator.pending.flip();
+        return true;
+    }
+
+    private static void close(Spectator spectator) {
+        try {
+            spectator.channel.close();
+        } catch (IOException e) {
+            // Already disconnected
+        }
+    }
+
+    /**
+     * Disconnects every spectator and stops accepting connections.
+     *
+     * @throws IOException if the listening socket cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        for (Spectator spectator : spectators) {
+            close(spectator);
+        }
+        spectators.clear();
+        if (server != null) {
+            server.close();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package game.ui.spectator;
+
+import game.achievements.Achievement;
+import game.core.SpaceObject;
+import game.ui.KeyHandler;
+import game.ui.Tickable;
+import game.ui.UI;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * A UI that passes everything through to another UI, while also streaming each rendered
+ * frame and its stats to spectators.
+ *
+ * Frames are sent from within render(), on the thread that renders the game, using only
+ * non-blocking writes; see SpectatorStream.
+ */
+public class SpectatorUI implements UI {
+
+    private final UI ui;
+    private final SpectatorStream stream;
+    private final SpectatorEncoder encoder = new SpectatorEncoder();
+    private long frame = 0;
+
+    /**
+     * Creates a UI that displays through the given UI and streams to the given stream.
+     *
+     * @param ui the UI used to display the game.
+     * @param stream the stream frames are sent to.
+     * @requires ui is not null
+     * @requires stream is not null
+     */
+    public SpectatorUI(UI ui, SpectatorStream stream) {
+        this.ui = ui;
+        this.stream = stream;
+    }
+
+    @Override
+    public void start() {
+        ui.start();
+    }
+
+    @Override
+    public void pause() {
+        ui.pause();
+    }
+
+    @Override
+    public void stop() {
+        ui.stop();
+    }
+
+    @Override
+    public void onStep(Tickable tickable) {
+        ui.onStep(tickable);
+    }
+
+    @Override
+    public void onKey(KeyHandler key) {
+        ui.onKey(key);
+    }
+
+    /**
+     * Renders the provided objects with the wrapped UI, then sends the frame to spectators.
+     *
+     * @param objects the list of SpaceObjects to be rendered.
+     */
+    @Override
+    public void render(List<SpaceObject> objects) {
+        ui.render(objects);
+        frame++;
+        ByteBuffer delta = encoder.encodeDelta(objects, frame);
+        stream.publish(delta, encoder::encodeKeyframe, frame);
+    }
+
+    @Override
+    public void log(String message) {
+        ui.log(message);
+    }
+
+    /**
+     * Sets the stat on the wrapped UI. Changed stats are sent with the next frame.
+     *
+     * @param label the provided label
+     * @param value the provided value
+     */
+    @Override
+    public void setStat(String label, String value) {
+        ui.setStat(label, value);
+        encoder.setStat(label, value);
+    }
+
+    @Override
+    public void logAchievementMastered(String message) {
+        ui.logAchievementMastered(message);
+    }
+
+    @Override
+    public void logAchievements(List<Achievement> achievements) {
+        ui.logAchievements(achievements);
+    }
+
+    @Override
+    public void setAchievementProgressStat(String achievementName, double progressPercentage) {
+        ui.setAchievementProgressStat(achievementName, progressPercentage);
+        encoder.setStat(achievementName + " Progress", String.format("%.0f%%", progressPercentage * 100));
+    }
+}
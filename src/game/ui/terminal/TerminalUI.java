@@ -0,0 +1,430 @@
+package game.ui.terminal;
+
+import game.GameModel;
+import game.achievements.Achievement;
+import game.core.SpaceObject;
+import game.core.SpaceObjectKind;
+import game.ui.FrameExchange;
+import game.ui.FrameSnapshot;
+import game.ui.InputQueue;
+import game.ui.KeyHandler;
+import game.ui.Tickable;
+import game.ui.UI;
+
+import java.io.BufferedWriter;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Represents a terminal implementation of the UI interface, drawn with ANSI escape codes.
+ *
+ * Objects are drawn with their text representations, two columns per cell. Only the cells,
+ * stats and log lines that changed since the last frame are redrawn, using cursor moves,
+ * so a frame usually costs a few dozen bytes and stays fast over slow connections such as SSH.
+ *
+ * Three threads are used. The input thread reads raw key presses from standard input into
+ * an InputQueue. The tick thread drains that queue and then ticks the game, at the same
+ * speed as the GUI. The render thread writes to the terminal, so a slow terminal never
+ * delays a tick.
+ */
+public class TerminalUI implements UI {
+    private static final int TICK_SPEED = 100;
+    private static final int INPUT_CAPACITY = 64;
+    private static final long IDLE_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final int LOG_LINES = 8;
+    private static final int BOARD_TOP = 2; // Terminal row of the first board row
+    private static final int BOARD_LEFT = 2; // Terminal column of the first board column
+    private static final int CELL_COLUMNS = 2; // Emoji take two terminal columns
+    private static final int STATS_LEFT = BOARD_LEFT + GameModel.GAME_WIDTH * CELL_COLUMNS + 3;
+    private static final int LOG_TOP = BOARD_TOP + GameModel.GAME_HEIGHT + 1;
+    private static final int EMPTY = -1;
+
+    private static final String ESC = "\u001b[";
+    private static final SpaceObjectKind[] KINDS = SpaceObjectKind.values();
+
+    private final List<Tickable> tickables = new CopyOnWriteArrayList<>();
+    private final List<KeyHandler> handlers = new CopyOnWriteArrayList<>();
+    private final InputQueue inputs = new InputQueue(INPUT_CAPACITY);
+    private final FrameExchange frames = new FrameExchange();
+    private final Map<String, String> stats = new ConcurrentHashMap<>();
+    private final Queue<String> newStats = new ConcurrentLinkedQueue<>();
+    private final Queue<String> pendingLog = new ConcurrentLinkedQueue<>();
+
+    // Owned by the render thread
+    private final int[] shownCells = new int[GameModel.GAME_WIDTH * GameModel.GAME_HEIGHT];
+    private final int[] nextCells = new int[GameModel.GAME_WIDTH * GameModel.GAME_HEIGHT];
+    private final List<String> statLabels = new ArrayList<>();
+    private final List<String> shownStats = new ArrayList<>();
+    private final String[] logLines = new String[LOG_LINES];
+    private long shownSequence = 0;
+    private long framesDrawn = 0;
+    private Writer out;
+
+    private volatile boolean paused = false;
+    private volatile boolean running = false;
+    private volatile boolean statsChanged = false;
+    private ScheduledExecutorService ticker;
+    private Thread renderer;
+    private int tick = 0;
+
+    /**
+     * Creates a terminal UI that draws to standard output once started.
+     */
+    public TerminalUI() {
+    }
+
+    /**
+     * Creates a terminal UI that draws to the given writer, without starting any threads.
+     * Frames passed to render() are written by drawChanges().
+     *
+     * @param out the writer to draw to.
+     */
+    TerminalUI(Writer out) {
+        this.out = out;
+        Arrays.fill(shownCells, EMPTY);
+    }
+
+    /**
+     * Starts the terminal UI.
+     * Switches the terminal to unbuffered, unechoed input, clears the screen and starts the
+     * input, tick and render threads. The terminal is restored when the JVM exits.
+     */
+    @Override
+    public void start() {
+        out = new BufferedWriter(new OutputStreamWriter(
+                new FileOutputStream(FileDescriptor.out), StandardCharsets.UTF_8), 1 << 16);
+        setTerminalMode("-icanon -echo min 1");
+        Runtime.getRuntime().addShutdownHook(new Thread(this::restoreTerminal));
+        Arrays.fill(shownCells, EMPTY);
+        running = true;
+
+        renderer = new Thread(this::renderLoop, "terminal-render");
+        renderer.setDaemon(true);
+        renderer.start();
+
+        Thread reader = new Thread(this::readInput, "terminal-input");
+        reader.setDaemon(true);
+        reader.start();
+
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "terminal-tick");
+            thread.setDaemon(false);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::step, TICK_SPEED, TICK_SPEED, TimeUnit.MILLISECONDS);
+
+        logWelcome();
+    }
+
+    /**
+     * Displays the game welcome message and instructions.
+     */
+    private void logWelcome() {
+        log("Welcome to Space Shooter!");
+        log("W/A/S/D - Move  F - Fire  P - Pause  Ctrl-C - Quit");
+    }
+
+    /**
+     * Alternates between paused and unpaused state.
+     */
+    @Override
+    public void pause() {
+        paused = !paused;
+    }
+
+    /**
+     * Pauses the game
+     */
+    @Override
+    public void stop() {
+        paused = true;
+    }
+
+    /**
+     * Stores the provided tickable.
+     * @param tickable the provided tickable
+     */
+    @Override
+    public void onStep(Tickable tickable) {
+        tickables.add(tickable);
+    }
+
+    /**
+     * Stores the provided KeyHandler.
+     * @param key the provided KeyHandler
+     */
+    @Override
+    public void onKey(KeyHandler key) {
+        handlers.add(key);
+    }
+
+    /**
+     * Renders the provided objects.
+     * The objects are copied into a frame snapshot, which the render thread draws.
+     *
+     * @param objects the list of SpaceObjects to be rendered.
+     */
+    @Override
+    public void render(List<SpaceObject> objects) {
+        frames.beginFrame().capture(objects, frames.nextSequence());
+        frames.publish();
+        LockSupport.unpark(renderer);
+    }
+
+    /**
+     * Log the provided message.
+     *
+     * @param message the provided message
+     */
+    @Override
+    public void log(String message) {
+        pendingLog.add(message);
+        LockSupport.unpark(renderer);
+    }
+
+    /**
+     * Sets the stats to the provided label and value.
+     *
+     * @param label the provided label
+     * @param value the provided value
+     */
+    @Override
+    public void setStat(String label, String value) {
+        if (stats.put(label, value) == null) {
+            newStats.add(label);
+        }
+        statsChanged = true;
+    }
+
+    @Override
+    public void logAchievementMastered(String message) {
+        log("Achievement Mastered: " + message);
+    }
+
+    @Override
+    public void logAchievements(List<Achievement> achievements) {
+        log("=== Achievements ===");
+        for (Achievement ach : achievements) {
+            log(ach.getName() + " - (" + String.format("%.0f%%", ach.getProgress() * 100)
+                    + " complete, Tier: " + ach.getCurrentTier() + ")");
+        }
+    }
+
+    @Override
+    public void setAchievementProgressStat(String achievementName, double progressPercentage) {
+        double progress = 5 * (Math.floor(Math.abs(progressPercentage * 100 / 5)));
+        progress = progressPercentage > 0.99 ? 100 : progress;
+        setStat(achievementName + " Progress", String.format("%.0f%%", progress));
+    }
+
+    /**
+     * Returns the number of frames drawn to the terminal so far.
+     *
+     * @return the number of frames drawn.
+     */
+    public long getFramesDrawn() {
+        return framesDrawn;
+    }
+
+    /**
+     * Passes waiting key presses to the KeyHandlers, then ticks the game unless it is paused.
+     * Input is handled while paused so that the game can be unpaused.
+     */
+    private void step() {
+        try {
+            int keyCode;
+            while ((keyCode = inputs.poll()) != InputQueue.EMPTY) {
+                for (KeyHandler handler : handlers) {
+                    handler.onPress(keyCode);
+                }
+            }
+            if (!paused) {
+                for (Tickable tickable : tickables) {
+                    tickable.tick(tick++);
+                }
+            }
+        } catch (RuntimeException e) {
+            log("Error: " + e.getMessage()); // Keep ticking; an exception would cancel the schedule
+        }
+    }
+
+    private void readInput() {
+        InputStream in = System.in;
+        try {
+            int key;
+            while (running && (key = in.read()) != -1) {
+                inputs.offer(key);
+            }
+        } catch (IOException e) {
+            log("Input closed: " + e.getMessage());
+        }
+    }
+
+    private void renderLoop() {
+        try {
+            out.write(ESC + "?25l" + ESC + "2J");
+            drawBorder();
+            while (running) {
+                drawChanges();
+                LockSupport.parkNanos(this, IDLE_NANOS);
+            }
+        } catch (IOException e) {
+            running = false;
+        }
+    }
+
+    /**
+     * Draws the frame, stats and log lines that changed since they were last drawn.
+     */
+    void drawChanges() throws IOException {
+        boolean drawn = drawFrame();
+        drawn |= drawStats();
+        drawn |= drawLog();
+        if (drawn) {
+            out.flush();
+        }
+    }
+
+    private void drawBorder() throws IOException {
+        String horizontal = "+" + "-".repeat(GameModel.GAME_WIDTH * CELL_COLUMNS) + "+";
+        moveTo(BOARD_TOP - 1, BOARD_LEFT - 1);
+        out.write(horizontal);
+        for (int row = 0; row < GameModel.GAME_HEIGHT; row++) {
+            moveTo(BOARD_TOP + row, BOARD_LEFT - 1);
+            out.write('|');
+            moveTo(BOARD_TOP + row, BOARD_LEFT + GameModel.GAME_WIDTH * CELL_COLUMNS);
+            out.write('|');
+        }
+        moveTo(BOARD_TOP + GameModel.GAME_HEIGHT, BOARD_LEFT - 1);
+        out.write(horizontal);
+        out.flush();
+    }
+
+    /**
+     * Draws the cells that differ between the latest frame and the frame on screen.
+     * Later objects in a frame are drawn over earlier objects in the same cell.
+     */
+    private boolean drawFrame() throws IOException {
+        FrameSnapshot frame = frames.latest();
+        if (frame.getSequence() == shownSequence) {
+            return false;
+        }
+        shownSequence = frame.getSequence();
+        Arrays.fill(nextCells, EMPTY);
+        for (int i = 0; i < frame.size(); i++) {
+            int x = frame.getX(i);
+            int y = frame.getY(i);
+            if (x >= 0 && x < GameModel.GAME_WIDTH && y >= 0 && y < GameModel.GAME_HEIGHT) {
+                nextCells[y * GameModel.GAME_WIDTH + x] = frame.getKind(i).ordinal();
+            }
+        }
+        for (int cell = 0; cell < nextCells.length; cell++) {
+            if (nextCells[cell] == shownCells[cell]) {
+                continue;
+            }
+            int row = BOARD_TOP + cell / GameModel.GAME_WIDTH;
+            int column = BOARD_LEFT + (cell % GameModel.GAME_WIDTH) * CELL_COLUMNS;
+            moveTo(row, column);
+            out.write("  "); // Clear both columns, as some terminals draw emoji one column wide
+            if (nextCells[cell] != EMPTY) {
+                moveTo(row, column);
+                out.write(KINDS[nextCells[cell]].getText());
+            }
+            shownCells[cell] = nextCells[cell];
+        }
+        framesDrawn++;
+        return true;
+    }
+
+    private boolean drawStats() throws IOException {
+        if (!statsChanged) {
+            return false;
+        }
+        statsChanged = false;
+        String label;
+        while ((label = newStats.poll()) != null) {
+            statLabels.add(label);
+            shownStats.add(null);
+        }
+        boolean drawn = false;
+        for (int i = 0; i < statLabels.size(); i++) {
+            String value = stats.get(statLabels.get(i));
+            if (!value.equals(shownStats.get(i))) {
+                moveTo(BOARD_TOP + i, STATS_LEFT);
+                out.write(statLabels.get(i) + ": " + value + ESC + "K");
+                shownStats.set(i, value);
+                drawn = true;
+            }
+        }
+        return drawn;
+    }
+
+    private boolean drawLog() throws IOException {
+        if (pendingLog.isEmpty()) {
+            return false;
+        }
+        String message;
+        while ((message = pendingLog.poll()) != null) {
+            System.arraycopy(logLines, 1, logLines, 0, LOG_LINES - 1);
+            logLines[LOG_LINES - 1] = message;
+        }
+        for (int i = 0; i < LOG_LINES; i++) {
+            moveTo(LOG_TOP + i, 1);
+            out.write(ESC + "2K");
+            if (logLines[i] != null) {
+                out.write(logLines[i]);
+            }
+        }
+        return true;
+    }
+
+    private void moveTo(int row, int column) throws IOException {
+        out.write(ESC + row + ';' + column + 'H');
+    }
+
+    private void restoreTerminal() {
+        running = false;
+        LockSupport.unpark(renderer);
+        try {
+            renderer.join(TICK_SPEED); // Let the render thread finish its current write
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            moveTo(LOG_TOP + LOG_LINES, 1);
+            out.write(ESC + "0m" + ESC + "?25h\n");
+            out.flush();
+        } catch (IOException e) {
+            // Nothing more can be done if the terminal is gone
+        }
+        setTerminalMode("sane");
+    }
+
+    private static void setTerminalMode(String mode) {
+        try {
+            new ProcessBuilder("sh", "-c", "stty " + mode + " < /dev/tty")
+                    .inheritIO().start().waitFor();
+        } catch (IOException e) {
+            // Not attached to a terminal; input will be line buffered
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package game.utility;
+
+/**
+ * Samples indices in proportion to fixed weights using Walker's alias method.
+ *
+ * Building the table takes time linear in the number of weights. Every sample then takes
+ * two draws and two array reads however many weights there are: a draw picks a column, and
+ * a second draw picks either the column's own index or its alias.
+ */
+public class AliasTable {
+
+    private static final int PRECISION = 1 << 30; // Resolution of the in-column choice
+
+    private final int[] thresholds; // Chance of keeping the column's own index, out of PRECISION
+    private final int[] aliases; // Index chosen when the column's own index is not kept
+
+    /**
+     * Builds an alias table for the given weights.
+     *
+     * @param weights the relative weight of each index.
+     * @throws IllegalArgumentException if there are no weights, a weight is negative or not
+     *         finite, or all weights are zero.
+     */
+    public AliasTable(double... weights) {
+        int n = weights.length;
+        if (n == 0) {
+            throw new IllegalArgumentException("At least one weight is required.");
+        }
+        double total = 0;
+        for (double weight : weights) {
+            if (!(weight >= 0) || Double.isInfinite(weight)) {
+                throw new IllegalArgumentException("Weights must be finite and non-negative.");
+            }
+            total += weight;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("At least one weight must be positive.");
+        }
+        thresholds = new int[n];
+        aliases = new int[n];
+
+        // Scale so the average column is exactly full, then pair under-full columns with
+        // over-full ones until every column holds one unit.
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / total;
+            if (scaled[i] < 1) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            thresholds[less] = (int) (scaled[less] * PRECISION);
+            aliases[less] = more;
+            scaled[more] -= 1 - scaled[less];
+            if (scaled[more] < 1) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+        // Whatever remains is full up to rounding error
+        while (largeCount > 0) {
+            int full = large[--largeCount];
+            thresholds[full] = PRECISION;
+            aliases[full] = full;
+        }
+        while (smallCount > 0) {
+            int full = small[--smallCount];
+            thresholds[full] = PRECISION;
+            aliases[full] = full;
+        }
+    }
+
+    /**
+     * Draws an index with probability proportional to its weight.
+     *
+     * @param random the generator to draw from.
+     * @return the sampled index, between 0 (inclusive) and size() (exclusive).
+     */
+    public int sample(GameRandom random) {
+        int column = random.nextInt(thresholds.length);
+        return random.nextInt(PRECISION) < thresholds[column] ? column : aliases[column];
+    }
+
+    /**
+     * Returns the number of weights in the table.
+     *
+     * @return the number of indices that can be sampled.
+     */
+    public int size() {
+        return thresholds.length;
+    }
+}
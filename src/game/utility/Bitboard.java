@@ -0,0 +1,177 @@
+package game.utility;
+
+import java.util.Arrays;
+
+/**
+ * A fixed-size grid of occupancy bits, stored row by row in an array of longs.
+ *
+ * The standard 10 by 20 game board fits in four longs, so testing a cell is a shift and a
+ * mask, and testing whether two boards overlap is a handful of bitwise ANDs.
+ * Coordinates outside the grid are never occupied, and setting them has no effect.
+ */
+public class Bitboard {
+
+    private final int width;
+    private final int height;
+    private final long[] words;
+
+    /**
+     * Creates an empty bitboard with the given dimensions.
+     *
+     * @param width the number of columns.
+     * @param height the number of rows.
+     * @throws IllegalArgumentException if width or height is not positive.
+     */
+    public Bitboard(int width, int height) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Bitboard dimensions must be positive.");
+        }
+        this.width = width;
+        this.height = height;
+        this.words = new long[(width * height + Long.SIZE - 1) / Long.SIZE];
+    }
+
+    /**
+     * Returns the number of columns.
+     *
+     * @return the width of the bitboard.
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Returns the number of rows.
+     *
+     * @return the height of the bitboard.
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Returns whether the given cell is occupied.
+     *
+     * @param x the x coordinate of the cell.
+     * @param y the y coordinate of the cell.
+     * @return true if the cell is inside the grid and occupied, false otherwise.
+     */
+    public boolean get(int x, int y) {
+        if (!contains(x, y)) {
+            return false;
+        }
+        int index = y * width + x;
+        return (words[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Marks the given cell as occupied. Cells outside the grid are ignored.
+     *
+     * @param x the x coordinate of the cell.
+     * @param y the y coordinate of the cell.
+     */
+    public void set(int x, int y) {
+        if (contains(x, y)) {
+            int index = y * width + x;
+            words[index >>> 6] |= 1L << index;
+        }
+    }
+
+    /**
+     * Marks the given cell as empty. Cells outside the grid are ignored.
+     *
+     * @param x the x coordinate of the cell.
+     * @param y the y coordinate of the cell.
+     */
+    public void clear(int x, int y) {
+        if (contains(x, y)) {
+            int index = y * width + x;
+            words[index >>> 6] &= ~(1L << index);
+        }
+    }
+
+    /**
+     * Marks every cell as empty.
+     */
+    public void clear() {
+        Arrays.fill(words, 0L);
+    }
+
+    /**
+     * Returns whether no cell is occupied.
+     *
+     * @return true if the bitboard is empty.
+     */
+    public boolean isEmpty() {
+        for (long word : words) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether any cell in the given row is occupied.
+     *
+     * @param y the row to check.
+     * @return true if the row is inside the grid and has an occupied cell.
+     */
+    public boolean isRowOccupied(int y) {
+        if (y < 0 || y >= height) {
+            return false;
+        }
+        for (int x = 0; x < width; x++) {
+            int index = y * width + x;
+            if ((words[index >>> 6] & (1L << index)) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of occupied cells.
+     *
+     * @return the number of occupied cells.
+     */
+    public int count() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Returns whether this bitboard and the given bitboard share an occupied cell.
+     *
+     * @param other a bitboard with the same dimensions.
+     * @return true if any cell is occupied in both bitboards.
+     * @requires other has the same dimensions as this bitboard
+     */
+    public boolean intersects(Bitboard other) {
+        for (int i = 0; i < words.length; i++) {
+            if ((words[i] & other.words[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Marks every cell occupied in the given bitboard as occupied in this bitboard.
+     *
+     * @param other a bitboard with the same dimensions.
+     * @requires other has the same dimensions as this bitboard
+     */
+    public void or(Bitboard other) {
+        for (int i = 0; i < words.length; i++) {
+            words[i] |= other.words[i];
+        }
+    }
+
+    private boolean contains(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+}
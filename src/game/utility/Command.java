@@ -0,0 +1,72 @@
+package game.utility;
+
+import java.util.Arrays;
+
+import static game.utility.Direction.*;
+
+/**
+ * Enum representing the commands a player can issue to the game.
+ * Keys are mapped to commands through a precomputed lookup table, so translating a key
+ * into a command never allocates or compares strings.
+ */
+public enum Command {
+    MOVE_UP(UP), MOVE_DOWN(DOWN), MOVE_LEFT(LEFT), MOVE_RIGHT(RIGHT), FIRE(null), PAUSE(null), INVALID(null);
+
+    private static final Command[] KEY_COMMANDS = new Command[128];
+
+    static {
+        Arrays.fill(KEY_COMMANDS, INVALID);
+        bind('W', MOVE_UP);
+        bind('S', MOVE_DOWN);
+        bind('A', MOVE_LEFT);
+        bind('D', MOVE_RIGHT);
+        bind('F', FIRE);
+        bind('P', PAUSE);
+    }
+
+    private final Direction direction;
+
+    Command(Direction direction) {
+        this.direction = direction;
+    }
+
+    private static void bind(char key, Command command) {
+        KEY_COMMANDS[key] = command;
+        KEY_COMMANDS[Character.toLowerCase(key)] = command;
+    }
+
+    /**
+     * Returns the direction moved by this command.
+     *
+     * @return the direction of a movement command, or null if this is not a movement command.
+     */
+    public Direction getDirection() {
+        return direction;
+    }
+
+    /**
+     * Returns the command bound to the given key. Uppercase and lowercase keys are treated identically.
+     *
+     * @param keyCode the character code of the pressed key.
+     * @return the bound command, or INVALID if no command is bound to the key.
+     */
+    public static Command fromKey(int keyCode) {
+        if (keyCode >= 0 && keyCode < KEY_COMMANDS.length) {
+            return KEY_COMMANDS[keyCode];
+        }
+        int upperCase = Character.toUpperCase(keyCode);
+        return upperCase >= 0 && upperCase < KEY_COMMANDS.length ? KEY_COMMANDS[upperCase] : INVALID;
+    }
+
+    /**
+     * Returns the command bound to the given single-key input. Uppercase and lowercase inputs
+     * are treated identically.
+     *
+     * @param input the player's input.
+     * @return the bound command, or INVALID if the input is not a single bound key.
+     * @requires input is not null
+     */
+    public static Command fromInput(String input) {
+        return input.length() == 1 ? fromKey(input.charAt(0)) : INVALID;
+    }
+}
@@ -0,0 +1,29 @@
+package game.utility;
+
+import game.ui.Tickable;
+
+/**
+ * A monotonic source of game time, measured in milliseconds.
+ *
+ * Clocks are ticked alongside the game so that implementations may follow the simulation
+ * rather than the wall clock. Only differences between two readings are meaningful.
+ */
+public interface GameClock extends Tickable {
+
+    /**
+     * Returns the current time of this clock in milliseconds.
+     *
+     * @return the current time in milliseconds.
+     */
+    long millis();
+
+    /**
+     * Advances the clock for the given game tick. Clocks that do not follow the simulation
+     * ignore ticks.
+     *
+     * @param tick the given game tick.
+     */
+    @Override
+    default void tick(int tick) {
+    }
+}
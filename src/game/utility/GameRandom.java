@@ -0,0 +1,58 @@
+package game.utility;
+
+/**
+ * A source of pseudo-random numbers for the game simulation.
+ *
+ * Implementations are not required to be thread-safe: each simulation owns its generators
+ * and draws from them on the game thread only. Simulations run in parallel should give
+ * each run its own generator, derived with {@link #split()}.
+ */
+public interface GameRandom {
+
+    /**
+     * Returns a pseudo-random int between 0 (inclusive) and the given bound (exclusive).
+     *
+     * @param bound the upper bound (exclusive).
+     * @return the next pseudo-random int in the range.
+     * @throws IllegalArgumentException if bound is not positive.
+     */
+    int nextInt(int bound);
+
+    /**
+     * Returns a pseudo-random boolean.
+     *
+     * @return the next pseudo-random boolean.
+     */
+    boolean nextBoolean();
+
+    /**
+     * Returns a pseudo-random long.
+     *
+     * @return the next pseudo-random long.
+     */
+    long nextLong();
+
+    /**
+     * Resets the generator so that it produces the sequence for the given seed.
+     *
+     * @param seed the new seed.
+     */
+    void setSeed(long seed);
+
+    /**
+     * Returns a new generator whose sequence is independent of this one.
+     * Advances this generator. Splitting generators seeded the same way yields the same
+     * children, so a tree of split generators is reproducible from its root seed.
+     *
+     * @return a new, independent generator.
+     */
+    GameRandom split();
+
+    /**
+     * Returns a new generator in the same state as this one, which will produce the same
+     * sequence as this generator from now on. Does not advance this generator.
+     *
+     * @return a copy of this generator.
+     */
+    GameRandom copy();
+}
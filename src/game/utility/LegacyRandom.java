@@ -0,0 +1,89 @@
+package game.utility;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A GameRandom producing exactly the same sequences as java.util.Random.
+ *
+ * The 48-bit linear congruential generator is reimplemented over a plain long, so every
+ * draw is a multiply and an add rather than an atomic compare-and-set. Seeding with the
+ * same value as a java.util.Random yields the same nextInt and nextBoolean results, which
+ * keeps seeded games and their recorded expectations unchanged.
+ */
+public class LegacyRandom implements GameRandom {
+
+    private static final long MULTIPLIER = 0x5DEECE66DL;
+    private static final long ADDEND = 0xBL;
+    private static final long MASK = (1L << 48) - 1;
+
+    private long seed;
+
+    /**
+     * Creates a generator with an arbitrary seed.
+     */
+    public LegacyRandom() {
+        this(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Creates a generator with the given seed, as new java.util.Random(seed) would.
+     *
+     * @param seed the initial seed.
+     */
+    public LegacyRandom(long seed) {
+        setSeed(seed);
+    }
+
+    @Override
+    public void setSeed(long seed) {
+        this.seed = (seed ^ MULTIPLIER) & MASK;
+    }
+
+    private int next(int bits) {
+        seed = (seed * MULTIPLIER + ADDEND) & MASK;
+        return (int) (seed >>> (48 - bits));
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("Bound must be positive.");
+        }
+        int r = next(31);
+        int m = bound - 1;
+        if ((bound & m) == 0) {
+            return (int) ((bound * (long) r) >> 31);
+        }
+        for (int u = r; u - (r = u % bound) + m < 0; u = next(31)) {
+            // Reject values from the incomplete final range so every result is equally likely
+        }
+        return r;
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return next(1) != 0;
+    }
+
+    @Override
+    public long nextLong() {
+        return ((long) next(32) << 32) + next(32);
+    }
+
+    /**
+     * Returns a new LegacyRandom seeded from the next long of this generator.
+     *
+     * @return a new, independent generator.
+     */
+    @Override
+    public LegacyRandom split() {
+        return new LegacyRandom(nextLong());
+    }
+
+    @Override
+    public LegacyRandom copy() {
+        LegacyRandom copy = new LegacyRandom(0);
+        copy.seed = seed;
+        return copy;
+    }
+}
@@ -0,0 +1,92 @@
+package game.utility;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A fast GameRandom based on the SplitMix64 generator.
+ *
+ * Each draw adds a constant to a 64-bit counter and scrambles the result, so generators are
+ * cheap to create and split. Not thread-safe: use {@link #split()} to give each thread or
+ * parallel simulation its own generator.
+ */
+public class SplitMixRandom implements GameRandom {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private long seed;
+
+    /**
+     * Creates a generator with an arbitrary seed.
+     */
+    public SplitMixRandom() {
+        this(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Creates a generator with the given seed.
+     *
+     * @param seed the initial seed.
+     */
+    public SplitMixRandom(long seed) {
+        this.seed = seed;
+    }
+
+    @Override
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    @Override
+    public long nextLong() {
+        long z = (seed += GOLDEN_GAMMA);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Returns a pseudo-random int between 0 (inclusive) and the given bound (exclusive).
+     * Scales a 32-bit draw by the bound with a multiply, rejecting the rare draws that
+     * would make some results more likely than others.
+     *
+     * @param bound the upper bound (exclusive).
+     * @return the next pseudo-random int in the range.
+     * @throws IllegalArgumentException if bound is not positive.
+     */
+    @Override
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("Bound must be positive.");
+        }
+        long product = (nextLong() >>> 32) * bound;
+        long low = product & 0xFFFFFFFFL;
+        if (low < bound) {
+            long threshold = (0x100000000L - bound) % bound;
+            while (low < threshold) {
+                product = (nextLong() >>> 32) * bound;
+                low = product & 0xFFFFFFFFL;
+            }
+        }
+        return (int) (product >>> 32);
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return nextLong() < 0;
+    }
+
+    /**
+     * Returns a new SplitMixRandom seeded from the next long of this generator.
+     *
+     * @return a new, independent generator.
+     */
+    @Override
+    public SplitMixRandom split() {
+        return new SplitMixRandom(nextLong());
+    }
+
+    @Override
+    public SplitMixRandom copy() {
+        return new SplitMixRandom(seed);
+    }
+}
@@ -0,0 +1,15 @@
+package game.utility;
+
+/**
+ * A GameClock backed by System.nanoTime(), used for live play.
+ * Unlike System.currentTimeMillis() it never jumps backwards when the system time changes.
+ */
+public class SystemClock implements GameClock {
+
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    @Override
+    public long millis() {
+        return System.nanoTime() / NANOS_PER_MILLI;
+    }
+}
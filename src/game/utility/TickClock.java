@@ -0,0 +1,52 @@
+package game.utility;
+
+/**
+ * A GameClock that advances by a fixed amount of time on every game tick.
+ * Used for headless and replay runs, where time must follow the simulation so that
+ * time-based statistics are deterministic regardless of how fast the game is run.
+ */
+public class TickClock implements GameClock {
+
+    /**
+     * The default time represented by one tick, matching the GUI tick speed.
+     */
+    public static final long DEFAULT_MILLIS_PER_TICK = 100;
+
+    private final long millisPerTick;
+    private long ticks;
+
+    /**
+     * Creates a tick clock where each tick represents DEFAULT_MILLIS_PER_TICK milliseconds.
+     */
+    public TickClock() {
+        this(DEFAULT_MILLIS_PER_TICK);
+    }
+
+    /**
+     * Creates a tick clock where each tick represents the given number of milliseconds.
+     *
+     * @param millisPerTick the time represented by one tick, in milliseconds.
+     * @throws IllegalArgumentException if millisPerTick is not positive.
+     */
+    public TickClock(long millisPerTick) {
+        if (millisPerTick <= 0) {
+            throw new IllegalArgumentException("Milliseconds per tick must be positive.");
+        }
+        this.millisPerTick = millisPerTick;
+    }
+
+    @Override
+    public long millis() {
+        return ticks * millisPerTick;
+    }
+
+    /**
+     * Advances the clock by one tick, regardless of what the provided game tick is.
+     *
+     * @param tick the given game tick.
+     */
+    @Override
+    public void tick(int tick) {
+        ticks++;
+    }
+}
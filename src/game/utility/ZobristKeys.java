@@ -0,0 +1,79 @@
+package game.utility;
+
+/**
+ * Fixed random keys for hashing game states, in the style of Zobrist hashing.
+ *
+ * Each combination of object kind and board cell has its own 64-bit key, and a state's hash
+ * combines the keys of everything in it. Adding, moving or removing one object then changes
+ * the hash by one or two keys, without rehashing the rest of the state. The keys are drawn
+ * from a fixed seed, so every run and every machine computes the same hashes.
+ */
+public class ZobristKeys {
+
+    private static final long SEED = 0x5A0B21575EEDL;
+
+    private final int kinds;
+    private final int width;
+    private final int height;
+    private final long[] keys;
+
+    /**
+     * Creates keys for the given number of object kinds on a board of the given size.
+     *
+     * @param kinds the number of object kinds.
+     * @param width the number of columns.
+     * @param height the number of rows.
+     * @throws IllegalArgumentException if any dimension is not positive.
+     */
+    public ZobristKeys(int kinds, int width, int height) {
+        if (kinds <= 0 || width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Key table dimensions must be positive.");
+        }
+        this.kinds = kinds;
+        this.width = width;
+        this.height = height;
+        this.keys = new long[kinds * width * height];
+        SplitMixRandom random = new SplitMixRandom(SEED);
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = random.nextLong();
+        }
+    }
+
+    /**
+     * Returns the key of an object of the given kind at the given cell.
+     * Cells outside the board, such as those objects pass through as they leave it, have
+     * keys derived from their coordinates instead of stored ones.
+     *
+     * @param kind the index of the object kind.
+     * @param x the x-coordinate.
+     * @param y the y-coordinate.
+     * @return the key for the object.
+     */
+    public long key(int kind, int x, int y) {
+        if (x >= 0 && x < width && y >= 0 && y < height && kind >= 0 && kind < kinds) {
+            return keys[(kind * height + y) * width + x];
+        }
+        return mix(SEED ^ ((long) kind << 48) ^ ((long) (y & 0xFFFFFF) << 24) ^ (x & 0xFFFFFF));
+    }
+
+    /**
+     * Returns the key of a single value of a state field, such as health or score.
+     *
+     * @param field a number identifying the field.
+     * @param value the value of the field.
+     * @return the key for the field holding the value.
+     */
+    public static long value(int field, long value) {
+        return mix(mix(SEED + field) ^ value);
+    }
+
+    /**
+     * Scrambles a long with the SplitMix64 finalizer, so that nearby inputs give unrelated
+     * outputs.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,69 @@
+package game;
+
+import game.achievements.PlayerStatsTracker;
+import game.core.Asteroid;
+import game.core.Bullet;
+import game.core.Enemy;
+import game.core.Ship;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test for {@link GameModel#checkCollisions()}, covering objects that reach each other
+ * without the model moving them.
+ */
+public class GameModelCollisionTest {
+
+    private PlayerStatsTracker stats;
+    private GameModel model;
+    private Ship ship;
+
+    @Before
+    public void setUp() {
+        stats = new PlayerStatsTracker();
+        model = new GameModel(text -> { }, stats);
+        ship = model.getShip();
+    }
+
+    @Test
+    public void testAsteroidTickedOntoShipCollides() {
+        Asteroid asteroid = new Asteroid(ship.getX(), ship.getY() - 1);
+        model.addObject(asteroid);
+        model.checkCollisions();
+        assertEquals(100, ship.getHealth());
+
+        asteroid.tick(0); // Descends onto the ship
+        model.checkCollisions();
+        assertEquals(100 - GameModel.ASTEROID_DAMAGE, ship.getHealth());
+        assertFalse(model.getSpaceObjects().contains(asteroid));
+    }
+
+    @Test
+    public void testBulletTickedOntoEnemyHits() {
+        Bullet bullet = new Bullet(3, 6);
+        Enemy enemy = new Enemy(3, 5);
+        model.addObject(bullet);
+        model.addObject(enemy);
+        model.checkCollisions();
+        assertEquals(0, stats.getShotsHit());
+
+        bullet.tick(1);
+        model.checkCollisions();
+        assertEquals(1, stats.getShotsHit());
+        assertTrue(model.getSpaceObjects().isEmpty());
+    }
+
+    @Test
+    public void testObjectReplacedInListCollides() {
+        model.addObject(new Asteroid(0, 0));
+        model.checkCollisions();
+
+        // ArrayList.set() does not count as a structural modification
+        model.getSpaceObjects().set(0, new Asteroid(ship.getX(), ship.getY()));
+        model.checkCollisions();
+        assertEquals(100 - GameModel.ASTEROID_DAMAGE, ship.getHealth());
+        assertTrue(model.getSpaceObjects().isEmpty());
+    }
+}
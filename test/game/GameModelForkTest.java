@@ -0,0 +1,99 @@
+package game;
+
+import game.achievements.PlayerStatsTracker;
+import game.core.Asteroid;
+import game.core.Enemy;
+import game.core.SpaceObject;
+import game.utility.Direction;
+import game.utility.SplitMixRandom;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test for {@link GameModel#fork()}.
+ */
+public class GameModelForkTest {
+
+    private static String play(GameModel model, int from, int ticks) {
+        StringBuilder trace = new StringBuilder();
+        for (int tick = from; tick < from + ticks; tick++) {
+            if (tick % 7 == 0) {
+                model.fireBullet();
+            }
+            if (tick % 13 == 0) {
+                model.getShip().tryMove(tick % 2 == 0 ? Direction.LEFT : Direction.RIGHT);
+            }
+            if (tick % 50 == 0) {
+                model.getShip().heal(100);
+            }
+            model.updateGame(tick);
+            model.checkCollisions();
+            model.spawnObjects();
+            model.levelUp();
+            trace.append(model.getSpaceObjects()).append(model.getShip().getHealth())
+                    .append(model.getShip().getScore()).append(model.getLevel()).append('\n');
+        }
+        return trace.toString();
+    }
+
+    @Test
+    public void testForkPlaysOutTheSameGame() {
+        GameModel model = new GameModel(text -> { }, new PlayerStatsTracker());
+        model.setRandomSeed(7);
+        play(model, 0, 300);
+        GameModel fork = model.fork();
+        assertEquals(play(model, 300, 500), play(fork, 300, 500));
+    }
+
+    @Test
+    public void testForkWithSplitStreams() {
+        GameModel model = new GameModel(text -> { });
+        model.setRandomStreams(new SplitMixRandom(3));
+        play(model, 0, 100);
+        GameModel fork = model.fork();
+        assertEquals(play(model, 100, 400), play(fork, 100, 400));
+    }
+
+    @Test
+    public void testForkIsIndependent() {
+        GameModel model = new GameModel(text -> { });
+        model.addObject(new Asteroid(1, 1));
+        model.addObject(model.getShip());
+        GameModel fork = model.fork();
+        fork.getShip().takeDamage(30);
+        fork.addObject(new Enemy(2, 2));
+        fork.getSpaceObjects().get(0).tick(0);
+        fork.getStatsTracker().recordShotFired();
+
+        assertEquals(100, model.getShip().getHealth());
+        assertEquals(2, model.getSpaceObjects().size());
+        assertEquals(1, model.getSpaceObjects().get(0).getY());
+        assertEquals(0, model.getStatsTracker().getShotsFired());
+        assertSame(fork.getShip(), fork.getSpaceObjects().get(1));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testCannotForkUnknownObjects() {
+        GameModel model = new GameModel(text -> { });
+        model.addObject(new Asteroid(1, 1) {
+        });
+        model.fork();
+    }
+
+    @Test
+    public void testForkDoesNotLog() {
+        List<String> log = new ArrayList<>();
+        GameModel model = new GameModel(log::add);
+        model.setVerbose(true);
+        GameModel fork = model.fork();
+        SpaceObject asteroid = new Asteroid(fork.getShip().getX(), fork.getShip().getY());
+        fork.addObject(asteroid);
+        fork.checkCollisions();
+        assertEquals(90, fork.getShip().getHealth());
+        assertTrue(log.isEmpty());
+    }
+}
@@ -0,0 +1,91 @@
+package game;
+
+import game.core.Asteroid;
+import game.utility.Direction;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test for {@link GameModel#getStateHash()}.
+ */
+public class GameModelHashTest {
+
+    private static void step(GameModel model, int tick) {
+        if (tick % 5 == 0) {
+            model.fireBullet();
+        }
+        if (tick % 11 == 0) {
+            model.getShip().tryMove(tick % 2 == 0 ? Direction.LEFT : Direction.RIGHT);
+        }
+        if (tick % 40 == 0) {
+            model.getShip().heal(100);
+        }
+        model.updateGame(tick);
+        model.checkCollisions();
+        model.spawnObjects();
+        model.levelUp();
+    }
+
+    private static GameModel seeded(int seed) {
+        GameModel model = new GameModel(text -> { });
+        model.setRandomSeed(seed);
+        return model;
+    }
+
+    @Test
+    public void testIncrementalHashMatchesFullHash() {
+        GameModel model = seeded(3);
+        for (int tick = 0; tick < 2_000; tick++) {
+            step(model, tick);
+            // A fork computes its hash from scratch
+            assertEquals("tick " + tick, model.fork().getStateHash(), model.getStateHash());
+        }
+    }
+
+    @Test
+    public void testSameGamesHaveSameHashes() {
+        GameModel first = seeded(9);
+        GameModel second = seeded(9);
+        for (int tick = 0; tick < 1_000; tick++) {
+            step(first, tick);
+            step(second, tick);
+            assertEquals(first.getStateHash(), second.getStateHash());
+        }
+        second.getShip().tryMove(Direction.UP);
+        assertNotEquals(first.getStateHash(), second.getStateHash());
+    }
+
+    @Test
+    public void testShipStateChangesHash() {
+        GameModel model = seeded(1);
+        long hash = model.getStateHash();
+        model.getShip().takeDamage(10);
+        long damaged = model.getStateHash();
+        assertNotEquals(hash, damaged);
+        model.getShip().addScore(10);
+        assertNotEquals(damaged, model.getStateHash());
+    }
+
+    @Test
+    public void testObjectsInTheSameCellDoNotCancel() {
+        GameModel model = seeded(1);
+        long empty = model.getStateHash();
+        model.fireBullet();
+        long one = model.getStateHash();
+        model.fireBullet();
+        assertNotEquals(empty, one);
+        assertNotEquals(empty, model.getStateHash());
+        assertNotEquals(one, model.getStateHash());
+    }
+
+    @Test
+    public void testChangesThroughListAreNoticed() {
+        GameModel model = seeded(1);
+        long hash = model.getStateHash();
+        model.getSpaceObjects().add(new Asteroid(3, 3));
+        assertNotEquals(hash, model.getStateHash());
+        model.getSpaceObjects().clear();
+        assertEquals(hash, model.getStateHash());
+    }
+}
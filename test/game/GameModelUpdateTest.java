@@ -0,0 +1,140 @@
+package game;
+
+import game.core.*;
+import game.ui.ObjectGraphic;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test for {@link GameModel#updateGame(int)}, comparing it with ticking every object on
+ * every tick and then removing those out of bounds.
+ */
+public class GameModelUpdateTest {
+
+    /**
+     * An enemy that also strafes right on every tick.
+     */
+    private static class StrafingEnemy extends Enemy {
+        StrafingEnemy(int x, int y) {
+            super(x, y);
+        }
+
+        @Override
+        public void tick(int tick) {
+            super.tick(tick);
+            x++;
+        }
+    }
+
+    /**
+     * A non-standard object that falls on every tick.
+     */
+    private static class Meteor extends ObjectWithPosition {
+        Meteor(int x, int y) {
+            super(x, y);
+        }
+
+        @Override
+        public ObjectGraphic render() {
+            return new ObjectGraphic("*", "assets/asteroid.png");
+        }
+
+        @Override
+        public void tick(int tick) {
+            y++;
+        }
+    }
+
+    private static List<SpaceObject> objects() {
+        return new ArrayList<>(List.of(
+                new Asteroid(1, 18), new Enemy(2, 19), new ShieldPowerUp(3, 5),
+                new HealthPowerUp(4, 0), new Bullet(5, 2), new Bullet(6, 15),
+                new StrafingEnemy(0, 3), new Meteor(7, 12), new Ship(8, 8, 100)));
+    }
+
+    /**
+     * Moves the objects the way updateGame() did before objects were grouped by cadence.
+     */
+    private static void tickAll(List<SpaceObject> objects, int tick) {
+        for (SpaceObject object : objects) {
+            object.tick(tick);
+        }
+        objects.removeIf(object -> !(object instanceof Ship) && !GameModel.isInBounds(object));
+    }
+
+    private static void assertSameObjects(List<SpaceObject> expected, List<SpaceObject> actual,
+                                          int tick) {
+        assertEquals("tick " + tick, expected.toString(), actual.toString());
+    }
+
+    @Test
+    public void testMatchesTickingEveryObject() {
+        GameModel model = new GameModel(text -> { });
+        for (SpaceObject object : objects()) {
+            model.addObject(object);
+        }
+        List<SpaceObject> expected = objects();
+        for (int tick = 1; tick <= 45; tick++) {
+            model.updateGame(tick);
+            tickAll(expected, tick);
+            assertSameObjects(expected, model.getSpaceObjects(), tick);
+        }
+    }
+
+    @Test
+    public void testSubclassesMoveBetweenDescentTicks() {
+        GameModel model = new GameModel(text -> { });
+        StrafingEnemy enemy = new StrafingEnemy(0, 3);
+        Meteor meteor = new Meteor(7, 0);
+        model.addObject(enemy);
+        model.addObject(meteor);
+        for (int tick = 1; tick < DescendingEnemy.DESCENT_INTERVAL; tick++) {
+            model.updateGame(tick);
+        }
+        assertEquals(DescendingEnemy.DESCENT_INTERVAL - 1, enemy.getX());
+        assertEquals(3, enemy.getY());
+        assertEquals(DescendingEnemy.DESCENT_INTERVAL - 1, meteor.getY());
+    }
+
+    @Test
+    public void testIdleTicksLeaveDescendingObjectsInPlace() {
+        GameModel model = new GameModel(text -> { });
+        Asteroid asteroid = new Asteroid(1, 4);
+        Enemy enemy = new Enemy(2, 19);
+        model.addObject(asteroid);
+        model.addObject(enemy);
+        for (int tick = 1; tick < DescendingEnemy.DESCENT_INTERVAL; tick++) {
+            model.updateGame(tick);
+            assertEquals(4, asteroid.getY());
+            assertEquals(2, model.getSpaceObjects().size());
+        }
+        model.updateGame(DescendingEnemy.DESCENT_INTERVAL);
+        assertEquals(5, asteroid.getY());
+        assertEquals(List.of(asteroid), model.getSpaceObjects());
+    }
+
+    @Test
+    public void testObjectsOutOfBoundsRemovedOnIdleTick() {
+        GameModel model = new GameModel(text -> { });
+        model.addObject(new Asteroid(1, GameModel.GAME_HEIGHT));
+        model.addObject(new Enemy(2, 3));
+        model.updateGame(1);
+        assertEquals("[Enemy(2, 3)]", model.getSpaceObjects().toString());
+    }
+
+    @Test
+    public void testReplacedObjectIsMoved() {
+        GameModel model = new GameModel(text -> { });
+        model.addObject(new Asteroid(1, 4));
+        model.updateGame(1);
+
+        Bullet bullet = new Bullet(3, 10);
+        model.getSpaceObjects().set(0, bullet);
+        model.updateGame(2);
+        assertEquals(9, bullet.getY());
+    }
+}
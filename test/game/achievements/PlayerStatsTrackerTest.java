@@ -0,0 +1,79 @@
+package game.achievements;
+
+import game.utility.TickClock;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test for {@link PlayerStatsTracker}.
+ */
+public class PlayerStatsTrackerTest {
+
+    @Test
+    public void testInitialCounts() {
+        PlayerStatsTracker tracker = new PlayerStatsTracker();
+        assertEquals(0, tracker.getShotsFired());
+        assertEquals(0, tracker.getShotsHit());
+        assertEquals(0.0, tracker.getAccuracy(), 0.0001);
+    }
+
+    @Test
+    public void testRecordShots() {
+        PlayerStatsTracker tracker = new PlayerStatsTracker();
+        for (int i = 0; i < 4; i++) {
+            tracker.recordShotFired();
+        }
+        tracker.recordShotHit();
+        tracker.recordShotHit();
+        tracker.recordShotHit();
+
+        assertEquals(4, tracker.getShotsFired());
+        assertEquals(3, tracker.getShotsHit());
+        assertEquals(0.75, tracker.getAccuracy(), 0.0001);
+    }
+
+    @Test
+    public void testConcurrentRecording() throws InterruptedException {
+        PlayerStatsTracker tracker = new PlayerStatsTracker();
+        int shots = 100_000;
+        Thread input = new Thread(() -> {
+            for (int i = 0; i < shots; i++) {
+                tracker.recordShotFired();
+            }
+        });
+        Thread simulation = new Thread(() -> {
+            for (int i = 0; i < shots; i++) {
+                tracker.recordShotHit();
+            }
+        });
+        input.start();
+        simulation.start();
+        input.join();
+        simulation.join();
+
+        assertEquals(shots, tracker.getShotsFired());
+        assertEquals(shots, tracker.getShotsHit());
+        assertEquals(1.0, tracker.getAccuracy(), 0.0001);
+    }
+
+    @Test
+    public void testElapsedSecondsFollowsTickClock() {
+        TickClock clock = new TickClock(100);
+        PlayerStatsTracker tracker = new PlayerStatsTracker(clock);
+        for (int tick = 0; tick < 25; tick++) {
+            clock.tick(tick);
+        }
+        assertEquals(2, tracker.getElapsedSeconds());
+        for (int tick = 25; tick < 1200; tick++) {
+            clock.tick(tick);
+        }
+        assertEquals(120, tracker.getElapsedSeconds());
+    }
+
+    @Test
+    public void testCustomStartTimeUsesSystemTime() {
+        PlayerStatsTracker tracker = new PlayerStatsTracker(System.currentTimeMillis() - 5000);
+        assertEquals(5, tracker.getElapsedSeconds());
+    }
+}
@@ -0,0 +1,67 @@
+package game.ai;
+
+import game.GameModel;
+import game.core.Asteroid;
+import game.core.Enemy;
+import game.utility.Command;
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test for {@link BeamSearchAgent}.
+ */
+public class BeamSearchAgentTest {
+
+    private static final ForkJoinPool POOL = new ForkJoinPool(2);
+
+    @Test
+    public void testAvoidsAsteroid() {
+        GameModel model = new GameModel(text -> { });
+        ModelView view = new ModelView(model);
+        int x = view.getShipX();
+        model.addObject(new Asteroid(x, view.getShipY() - 1));
+        view.setTick(10); // The asteroid descends onto the ship this tick
+        BeamSearchAgent agent = new BeamSearchAgent(4, 8, 1_000_000_000L, POOL);
+        Command command = agent.decide(view);
+        assertNotNull(command);
+        assertNotEquals(Command.FIRE, command);
+        assertTrue(agent.getExpansions() > 0);
+        assertTrue(agent.getExpansionsPerSecond() > 0);
+    }
+
+    @Test
+    public void testShootsEnemy() {
+        GameModel model = new GameModel(text -> { });
+        model.setRandomSeed(1);
+        ModelView view = new ModelView(model);
+        model.addObject(new Enemy(view.getShipX(), view.getShipY() - 3));
+        BeamSearchAgent agent = new BeamSearchAgent(4, 8, 1_000_000_000L, POOL);
+        for (int tick = 1; tick < 6; tick++) {
+            view.setTick(tick);
+            Simulation.step(model, agent.decide(view), tick);
+        }
+        assertEquals(1, model.getStatsTracker().getShotsHit());
+    }
+
+    @Test
+    public void testDoesNotChangeTheGame() {
+        GameModel model = new GameModel(text -> { });
+        model.addObject(new Asteroid(3, 3));
+        String before = model.getSpaceObjects().toString();
+        new BeamSearchAgent(3, 4, 1_000_000_000L, POOL).decide(new ModelView(model));
+        assertEquals(before, model.getSpaceObjects().toString());
+        assertEquals(100, model.getShip().getHealth());
+    }
+
+    @Test
+    public void testRespectsBudget() {
+        GameModel model = new GameModel(text -> { });
+        BeamSearchAgent agent = new BeamSearchAgent(1_000, 64, 5_000_000L, POOL);
+        long start = System.nanoTime();
+        agent.decide(new ModelView(model));
+        assertTrue(System.nanoTime() - start < 500_000_000L);
+    }
+}
@@ -0,0 +1,77 @@
+package game.ai;
+
+import game.GameModel;
+import game.core.Asteroid;
+import game.core.Bullet;
+import game.core.Enemy;
+import game.utility.Command;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test for {@link GreedyAgent} and {@link ModelView}.
+ */
+public class GreedyAgentTest {
+
+    private GameModel model;
+    private GameView view;
+    private final Agent agent = new GreedyAgent();
+
+    @Before
+    public void setUp() {
+        model = new GameModel(text -> { });
+        view = new ModelView(model);
+    }
+
+    @Test
+    public void testViewReflectsModel() {
+        model.addObject(new Asteroid(2, 3));
+        assertEquals(model.getShip().getX(), view.getShipX());
+        assertEquals(model.getShip().getY(), view.getShipY());
+        assertTrue(view.isOccupied(2, 3));
+        assertFalse(view.isOccupied(3, 3));
+        assertEquals(1, view.getSpaceObjects().size());
+        assertEquals(1, view.getLevel());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testViewIsReadOnly() {
+        view.getSpaceObjects().add(new Asteroid(0, 0));
+    }
+
+    @Test
+    public void testDodgesAsteroidAbove() {
+        int x = view.getShipX();
+        model.addObject(new Asteroid(x, view.getShipY() - 1));
+        Command command = agent.decide(view);
+        assertTrue(command == Command.MOVE_LEFT || command == Command.MOVE_RIGHT);
+    }
+
+    @Test
+    public void testFiresAtEnemyAbove() {
+        model.addObject(new Enemy(view.getShipX(), 2));
+        assertEquals(Command.FIRE, agent.decide(view));
+        model.addObject(new Bullet(view.getShipX(), 5));
+        assertNull(agent.decide(view));
+    }
+
+    @Test
+    public void testDoesNotFireThroughAsteroid() {
+        model.addObject(new Enemy(view.getShipX(), 1));
+        model.addObject(new Asteroid(view.getShipX(), 4));
+        assertNotEquals(Command.FIRE, agent.decide(view));
+    }
+
+    @Test
+    public void testMovesTowardsEnemy() {
+        model.addObject(new Enemy(view.getShipX() + 2, 1));
+        assertEquals(Command.MOVE_RIGHT, agent.decide(view));
+    }
+
+    @Test
+    public void testWaitsWhenNothingToDo() {
+        assertNull(agent.decide(view));
+    }
+}
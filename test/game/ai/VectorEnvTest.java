@@ -0,0 +1,144 @@
+package game.ai;
+
+import game.GameModel;
+import game.core.ObjectWithPosition;
+import game.ui.ObjectGraphic;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test for {@link VectorEnv}.
+ */
+public class VectorEnvTest {
+
+    private static final int CELLS = GameModel.GAME_WIDTH * GameModel.GAME_HEIGHT;
+
+    private static float[] run(int threads) {
+        try (VectorEnv env = new VectorEnv(16, 5, 200, threads)) {
+            env.reset();
+            int[] actions = new int[env.size()];
+            float[] totals = new float[env.size()];
+            for (int step = 0; step < 1_000; step++) {
+                for (int i = 0; i < actions.length; i++) {
+                    actions[i] = (step + i) % VectorEnv.ACTIONS;
+                }
+                env.step(actions);
+                for (int i = 0; i < totals.length; i++) {
+                    totals[i] += env.getRewards()[i] + (env.getDones()[i] ? 1000 : 0);
+                }
+            }
+            float[] result = Arrays.copyOf(totals, totals.length + VectorEnv.OBSERVATION_SIZE);
+            System.arraycopy(env.getObservations(), 0, result, totals.length,
+                    VectorEnv.OBSERVATION_SIZE);
+            return result;
+        }
+    }
+
+    @Test
+    public void testResetObservation() {
+        try (VectorEnv env = new VectorEnv(2, 1, 100, 1)) {
+            float[] observations = env.reset();
+            assertEquals(2 * VectorEnv.OBSERVATION_SIZE, observations.length);
+            // The ship starts at (5, 10) on the first channel
+            assertEquals(1f, observations[10 * GameModel.GAME_WIDTH + 5], 0);
+            assertEquals(1f, observations[VectorEnv.CHANNELS * CELLS], 0);
+            assertEquals(0f, observations[VectorEnv.CHANNELS * CELLS + 1], 0);
+        }
+    }
+
+    @Test
+    public void testStepLimitResetsGame() {
+        try (VectorEnv env = new VectorEnv(3, 1, 10, 2)) {
+            env.reset();
+            int[] actions = new int[3];
+            for (int step = 1; step <= 10; step++) {
+                env.step(actions);
+                for (boolean done : env.getDones()) {
+                    assertEquals(step == 10, done);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testThreadCountDoesNotChangeResults() {
+        assertArrayEquals(run(1), run(3), 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWrongActionCount() {
+        try (VectorEnv env = new VectorEnv(2, 1, 10, 1)) {
+            env.reset();
+            env.step(new int[3]);
+        }
+    }
+
+    @Test
+    public void testActionOutOfRangeStepsNothing() {
+        try (VectorEnv env = new VectorEnv(4, 1, 10, 2)) {
+            env.reset();
+            for (int[] bad : new int[][]{{0, 0, 0, VectorEnv.ACTIONS}, {-1, 0, 0, 0}}) {
+                try {
+                    env.step(bad);
+                    fail("Expected IllegalArgumentException");
+                } catch (IllegalArgumentException expected) {
+                    // No game may have been stepped
+                }
+            }
+            assertStepsUntilDone(env, 10);
+        }
+    }
+
+    /**
+     * An object that fails when ticked.
+     */
+    private static class Faulty extends ObjectWithPosition {
+        Faulty() {
+            super(0, 0);
+        }
+
+        @Override
+        public ObjectGraphic render() {
+            return null;
+        }
+
+        @Override
+        public void tick(int tick) {
+            throw new IllegalStateException("faulty");
+        }
+    }
+
+    @Test
+    public void testFailureRethrownAfterEveryGameStepped() {
+        // With two threads, the caller steps games 0 and 1 and a worker steps games 2 and 3
+        for (int game : new int[]{0, 3}) {
+            try (VectorEnv env = new VectorEnv(4, 1, 10, 2)) {
+                env.reset();
+                Faulty faulty = new Faulty();
+                env.getGame(game).addObject(faulty);
+                try {
+                    env.step(new int[4]);
+                    fail("Expected the game's exception");
+                } catch (IllegalStateException e) {
+                    assertEquals("faulty", e.getMessage());
+                }
+                env.getGame(game).getSpaceObjects().remove(faulty);
+                // Every game took its first step, including the one that failed
+                assertStepsUntilDone(env, 9);
+            }
+        }
+    }
+
+    private static void assertStepsUntilDone(VectorEnv env, int steps) {
+        int[] actions = new int[env.size()];
+        for (int step = 1; step <= steps; step++) {
+            env.step(actions);
+            for (boolean done : env.getDones()) {
+                assertEquals("step " + step, step == steps, done);
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package game.bench;
+
+import game.GameController;
+import game.GameModel;
+import game.achievements.PlayerStatsTracker;
+import game.ai.Agent;
+import game.ai.Autopilot;
+import game.ai.GreedyAgent;
+import game.ai.RandomAgent;
+import game.utility.SplitMixRandom;
+import game.utility.TickClock;
+
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Measures how fast agents decide when autopiloting many games at once, and how many game
+ * ticks per second the games run at with an agent playing each one.
+ *
+ * Run with: java game.bench.AgentBenchmark [games] [ticks]
+ */
+public class AgentBenchmark {
+
+    /**
+     * Runs the benchmark.
+     * @param args optionally, the number of games and the number of ticks per game
+     */
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 2_000;
+        int ticks = args.length > 1 ? Integer.parseInt(args[1]) : 1_000;
+        GreedyAgent greedy = new GreedyAgent();
+        for (int round = 1; round <= 3; round++) {
+            report("random", games, ticks, game -> new RandomAgent(new SplitMixRandom(game)));
+            report("greedy", games, ticks, game -> greedy);
+        }
+    }
+
+    private static void report(String name, int games, int ticks, IntFunction<Agent> agents) {
+        Autopilot[] pilots = new Autopilot[games];
+        GameController[] controllers = new GameController[games];
+        for (int game = 0; game < games; game++) {
+            GameModel model = new GameModel(text -> { },
+                    new PlayerStatsTracker(new TickClock()));
+            model.setRandomSeed(game);
+            controllers[game] = new GameController(new HeadlessUI(), model,
+                    NullAchievementFile.standardAchievements());
+            pilots[game] = new Autopilot(agents.apply(game), controllers[game]);
+        }
+        long start = System.nanoTime();
+        IntStream.range(0, games).parallel().forEach(game -> {
+            for (int tick = 0; tick < ticks; tick++) {
+                pilots[game].tick(tick);
+                controllers[game].onTick(tick);
+                if (tick % 100 == 0) {
+                    controllers[game].getModel().getShip().heal(100); // Keep the game going
+                }
+            }
+        });
+        long elapsed = System.nanoTime() - start;
+        double decisionsPerSecond = 0;
+        for (Autopilot pilot : pilots) {
+            decisionsPerSecond += pilot.getDecisionsPerSecond();
+        }
+        System.out.printf("%s: %,.0f decisions/s per game thread, %,.0f game ticks/s "
+                        + "across %d games on %d threads%n",
+                name, decisionsPerSecond / games, (double) games * ticks * 1e9 / elapsed,
+                games, Runtime.getRuntime().availableProcessors());
+    }
+}
@@ -0,0 +1,78 @@
+package game.bench;
+
+import game.utility.AliasTable;
+import game.utility.SplitMixRandom;
+
+/**
+ * Measures the cost of weighted sampling as the number of types grows, comparing
+ * AliasTable with a linear scan over cumulative weights.
+ *
+ * Run with: java game.bench.AliasTableBenchmark [samples per measurement]
+ */
+public class AliasTableBenchmark {
+
+    private static final int[] TYPE_COUNTS = {2, 4, 16, 64, 256, 1024};
+
+    /**
+     * Runs the benchmark.
+     * @param args optionally, the number of samples per measurement
+     */
+    public static void main(String[] args) {
+        int samples = args.length > 0 ? Integer.parseInt(args[0]) : 5_000_000;
+        for (int types : TYPE_COUNTS) {
+            double[] weights = new double[types];
+            for (int i = 0; i < types; i++) {
+                weights[i] = i + 1;
+            }
+            // Warm up both paths before measuring
+            measureAlias(weights, samples);
+            measureScan(weights, samples);
+            System.out.printf("%4d types: alias %6.1f ns/sample, linear scan %6.1f ns/sample%n",
+                    types, measureAlias(weights, samples), measureScan(weights, samples));
+        }
+    }
+
+    private static double measureAlias(double[] weights, int samples) {
+        AliasTable table = new AliasTable(weights);
+        SplitMixRandom random = new SplitMixRandom(1);
+        long checksum = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < samples; i++) {
+            checksum += table.sample(random);
+        }
+        return finish(start, samples, checksum);
+    }
+
+    /**
+     * Samples by drawing a point in the total weight and walking the cumulative weights,
+     * as an if/else chain over types would.
+     */
+    private static double measureScan(double[] weights, int samples) {
+        int[] cumulative = new int[weights.length];
+        int total = 0;
+        for (int i = 0; i < weights.length; i++) {
+            total += (int) weights[i];
+            cumulative[i] = total;
+        }
+        SplitMixRandom random = new SplitMixRandom(1);
+        long checksum = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < samples; i++) {
+            int point = random.nextInt(total);
+            int type = 0;
+            while (cumulative[type] <= point) {
+                type++;
+            }
+            checksum += type;
+        }
+        return finish(start, samples, checksum);
+    }
+
+    private static double finish(long start, int samples, long checksum) {
+        long elapsed = System.nanoTime() - start;
+        if (checksum < 0) {
+            throw new IllegalStateException("Unexpected checksum: " + checksum);
+        }
+        return (double) elapsed / samples;
+    }
+}
@@ -0,0 +1,45 @@
+package game.bench;
+
+import game.GameModel;
+import game.ai.BeamSearchAgent;
+import game.ai.ModelView;
+import game.ai.Simulation;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Measures node expansions per second of the BeamSearchAgent with increasing numbers of
+ * worker threads, playing the same seeded game each time.
+ *
+ * Run with: java game.bench.BeamSearchBenchmark [ticks] [budget in milliseconds]
+ */
+public class BeamSearchBenchmark {
+
+    /**
+     * Runs the benchmark.
+     * @param args optionally, the number of ticks to play and the time budget per decision
+     */
+    public static void main(String[] args) {
+        int ticks = args.length > 0 ? Integer.parseInt(args[0]) : 300;
+        long budget = (args.length > 1 ? Long.parseLong(args[1]) : 20) * 1_000_000L;
+        int processors = Runtime.getRuntime().availableProcessors();
+        for (int threads = 1; threads <= processors; threads *= 2) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            BeamSearchAgent agent = new BeamSearchAgent(BeamSearchAgent.DEFAULT_DEPTH,
+                    BeamSearchAgent.DEFAULT_BEAM_WIDTH, budget, pool);
+            GameModel model = new GameModel(text -> { });
+            model.setRandomSeed(42);
+            ModelView view = new ModelView(model);
+            int tick = 0;
+            for (; tick < ticks && !model.checkGameOver(); tick++) {
+                view.setTick(tick);
+                Simulation.step(model, agent.decide(view), tick);
+            }
+            System.out.printf("%d threads: %,.0f expansions/s, survived %d ticks with %d health, "
+                            + "%d enemies destroyed%n",
+                    threads, agent.getExpansionsPerSecond(), tick, model.getShip().getHealth(),
+                    model.getStatsTracker().getShotsHit());
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package game.bench;
+
+import game.achievements.Achievement;
+import game.core.SpaceObject;
+import game.ui.FrameSnapshot;
+import game.ui.KeyHandler;
+import game.ui.Tickable;
+import game.ui.UI;
+
+import java.util.List;
+
+/**
+ * A UI with no display, for benchmarks that drive a GameController directly.
+ *
+ * Each rendered frame is copied into a frame snapshot, as GUI.render() does, so a game
+ * measured through this UI still pays for handing its frames to a renderer.
+ */
+public class HeadlessUI implements UI {
+
+    private final FrameSnapshot frame = new FrameSnapshot();
+    private long frames;
+    private long messages;
+    private boolean paused;
+
+    /**
+     * Returns the number of frames rendered.
+     * @return the number of calls to render()
+     */
+    public long getFrames() {
+        return frames;
+    }
+
+    /**
+     * Returns the number of messages logged, including achievement messages.
+     * @return the number of messages
+     */
+    public long getMessages() {
+        return messages;
+    }
+
+    /**
+     * Returns whether the game has paused itself, as it does when the game is over.
+     * @return true if paused
+     */
+    public boolean isPaused() {
+        return paused;
+    }
+
+    @Override
+    public void start() {
+    }
+
+    @Override
+    public void pause() {
+        paused = !paused;
+    }
+
+    @Override
+    public void stop() {
+    }
+
+    @Override
+    public void onStep(Tickable tickable) {
+    }
+
+    @Override
+    public void onKey(KeyHandler key) {
+    }
+
+    @Override
+    public void render(List<SpaceObject> objects) {
+        frame.capture(objects, ++frames);
+    }
+
+    @Override
+    public void log(String message) {
+        messages++;
+    }
+
+    @Override
+    public void setStat(String label, String value) {
+    }
+
+    @Override
+    public void logAchievementMastered(String message) {
+        messages++;
+    }
+
+    @Override
+    public void logAchievements(List<Achievement> achievements) {
+        messages++;
+    }
+
+    @Override
+    public void setAchievementProgressStat(String achievementName, double progressPercentage) {
+    }
+}
@@ -0,0 +1,250 @@
+package game.bench;
+
+import game.GameController;
+import game.GameModel;
+import game.achievements.PlayerStatsTracker;
+import game.core.Asteroid;
+import game.core.Enemy;
+import game.core.HealthPowerUp;
+import game.core.ShieldPowerUp;
+import game.core.SpaceObject;
+import game.progression.LevelProgression;
+import game.progression.ProgressionCurve;
+import game.utility.SplitMixRandom;
+import game.utility.TickClock;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Measures whole games in named scenarios, driving GameController.onTick() and
+ * handlePlayerInput() through a HeadlessUI, and prints the results as JSON.
+ *
+ * Scenarios:
+ * - level-1-idle: a new game with no input.
+ * - level-20-rapid-fire: a game started at level 20, firing every tick while strafing.
+ * - wall-hugging: the ship pushed into the left wall every tick, moving up and down along it.
+ * - 10k-objects: the board kept filled with 10,000 descending objects. The board size is
+ *   fixed by GameModel, so this crowds many objects into each cell rather than enlarging it.
+ *
+ * Each scenario is seeded and scripted, so results are comparable across commits. For each
+ * scenario the result gives ticks per second, tick latency percentiles, and the bytes
+ * allocated per tick by the game (measured with the JVM's per-thread allocation counter).
+ * Only the scripted inputs and onTick() are measured; healing the ship to keep the game going
+ * and refilling the board are not.
+ *
+ * The JSON header names the commit measured, given with --commit or else read from git in
+ * the working directory, so saved results can be matched to the code they came from.
+ *
+ * Run with: java game.bench.MacroBenchmark [--ticks N] [--commit ID] [scenario...]
+ */
+public class MacroBenchmark {
+
+    private static final int DEFAULT_TICKS = 20_000;
+    private static final int WARMUP_TICKS = 5_000;
+    private static final int CROWD = 10_000;
+    private static final int HEAL_BELOW = 50; // No tick deals more damage than this
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    /**
+     * A scripted game: how it is set up, the input given each tick, and any untimed work
+     * done between ticks.
+     */
+    private static class Scenario {
+        private final String name;
+        private final ObjIntConsumer<GameModel> setUp;
+        private final ObjIntConsumer<GameController> input;
+        private final ObjIntConsumer<GameModel> between;
+
+        private Scenario(String name, ObjIntConsumer<GameModel> setUp,
+                         ObjIntConsumer<GameController> input, ObjIntConsumer<GameModel> between) {
+            this.name = name;
+            this.setUp = setUp;
+            this.input = input;
+            this.between = between;
+        }
+    }
+
+    private static final List<Scenario> SCENARIOS = List.of(
+            new Scenario("level-1-idle", (model, seed) -> { }, (controller, tick) -> { },
+                    (model, tick) -> { }),
+            new Scenario("level-20-rapid-fire",
+                    (model, seed) -> model.setProgression(new LevelProgression(
+                            ProgressionCurve.linear(GameModel.SCORE_THRESHOLD), 20,
+                            GameModel.START_SPAWN_RATE + 19 * GameModel.SPAWN_RATE_INCREASE,
+                            GameModel.SPAWN_RATE_INCREASE, GameModel.MAX_SPAWN_RATE)),
+                    (controller, tick) -> {
+                        controller.handlePlayerInput("F");
+                        if (tick % 4 == 0) {
+                            controller.handlePlayerInput(tick % 8 == 0 ? "A" : "D");
+                        }
+                    },
+                    (model, tick) -> { }),
+            new Scenario("wall-hugging", (model, seed) -> { },
+                    (controller, tick) -> {
+                        controller.handlePlayerInput("A");
+                        controller.handlePlayerInput(tick % 2 == 0 ? "S" : "W");
+                    },
+                    (model, tick) -> { }),
+            new Scenario("10k-objects", MacroBenchmark::crowd,
+                    (controller, tick) -> controller.handlePlayerInput("F"),
+                    MacroBenchmark::crowd)
+    );
+
+    /**
+     * Runs the benchmark.
+     * @param args optionally "--ticks N" for the number of measured ticks per scenario and
+     *             "--commit ID" for the commit measured, then the names of the scenarios to
+     *             run (all by default)
+     */
+    public static void main(String[] args) {
+        int ticks = DEFAULT_TICKS;
+        String commit = null;
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--ticks") && i + 1 < args.length) {
+                ticks = Integer.parseInt(args[++i]);
+            } else if (args[i].equals("--commit") && i + 1 < args.length) {
+                commit = args[++i];
+            } else {
+                names.add(args[i]);
+            }
+        }
+        if (ticks <= 0) {
+            throw new IllegalArgumentException("The number of ticks must be positive.");
+        }
+        if (commit == null) {
+            commit = gitCommit();
+        }
+        List<String> results = new ArrayList<>();
+        for (Scenario scenario : SCENARIOS) {
+            if (names.isEmpty() || names.contains(scenario.name)) {
+                results.add(run(scenario, ticks));
+            }
+        }
+        if (results.size() < Math.max(1, names.size())) {
+            throw new IllegalArgumentException("Unknown scenario in " + names + ".");
+        }
+        System.out.printf(Locale.ROOT, "{\"benchmark\":\"macro\",\"commit\":\"%s\",\"java\":\"%s\","
+                        + "\"processors\":%d,\"ticks\":%d,\"warmupTicks\":%d,\"scenarios\":[%n  %s%n]}%n",
+                commit, System.getProperty("java.version"), Runtime.getRuntime().availableProcessors(),
+                ticks, WARMUP_TICKS, String.join(",\n  ", results));
+    }
+
+    /**
+     * Plays a warm-up game and then a measured game of the scenario.
+     * @return the scenario's result, as a JSON object
+     */
+    private static String run(Scenario scenario, int ticks) {
+        play(scenario, WARMUP_TICKS, null, null);
+        long[] latencies = new long[ticks];
+        long[] allocated = new long[1];
+        HeadlessUI ui = new HeadlessUI();
+        GameModel model = play(scenario, ticks, latencies, allocated, ui);
+
+        long total = 0;
+        for (long latency : latencies) {
+            total += latency;
+        }
+        Arrays.sort(latencies);
+        return String.format(Locale.ROOT, "{\"name\":\"%s\",\"ticksPerSecond\":%.0f,"
+                        + "\"p50Micros\":%.2f,\"p99Micros\":%.2f,\"maxMicros\":%.2f,"
+                        + "\"bytesPerTick\":%.1f,\"objects\":%d,\"level\":%d,\"frames\":%d}",
+                scenario.name, ticks * 1e9 / total,
+                percentile(latencies, 0.50) / 1e3, percentile(latencies, 0.99) / 1e3,
+                latencies[ticks - 1] / 1e3, (double) allocated[0] / ticks,
+                model.getSpaceObjects().size(), model.getLevel(), ui.getFrames());
+    }
+
+    private static GameModel play(Scenario scenario, int ticks, long[] latencies, long[] allocated) {
+        return play(scenario, ticks, latencies, allocated, new HeadlessUI());
+    }
+
+    /**
+     * Plays the scenario for the given number of ticks, recording each tick's latency and
+     * the bytes allocated by all ticks if arrays are given.
+     */
+    private static GameModel play(Scenario scenario, int ticks, long[] latencies,
+                                  long[] allocated, HeadlessUI ui) {
+        GameModel model = new GameModel(text -> { }, new PlayerStatsTracker(new TickClock()));
+        model.setRandomSeed(1);
+        GameController controller = new GameController(ui, model,
+                NullAchievementFile.standardAchievements());
+        scenario.setUp.accept(model, 0);
+        long threadId = Thread.currentThread().getId();
+        for (int tick = 0; tick < ticks; tick++) {
+            long bytesBefore = allocated == null ? 0 : THREADS.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+            scenario.input.accept(controller, tick);
+            controller.onTick(tick);
+            long elapsed = System.nanoTime() - start;
+            if (allocated != null) {
+                allocated[0] += THREADS.getThreadAllocatedBytes(threadId) - bytesBefore;
+            }
+            if (latencies != null) {
+                latencies[tick] = elapsed;
+            }
+            if (ui.isPaused()) {
+                throw new IllegalStateException(scenario.name + " ended the game at tick " + tick + ".");
+            }
+            if (model.getShip().getHealth() <= HEAL_BELOW) {
+                model.getShip().heal(100);
+            }
+            scenario.between.accept(model, tick);
+        }
+        return model;
+    }
+
+    /**
+     * Tops the board up to CROWD objects, placed on the top rows of every column but the
+     * ship's so the ship is never hit by them.
+     */
+    private static void crowd(GameModel model, int tick) {
+        List<SpaceObject> objects = model.getSpaceObjects();
+        SplitMixRandom random = new SplitMixRandom(tick);
+        int shipX = model.getShip().getX();
+        while (objects.size() < CROWD) {
+            int x = random.nextInt(GameModel.GAME_WIDTH - 1);
+            if (x >= shipX) {
+                x++;
+            }
+            int y = random.nextInt(GameModel.GAME_HEIGHT / 2);
+            model.addObject(switch (random.nextInt(4)) {
+                case 0 -> new Asteroid(x, y);
+                case 1 -> new Enemy(x, y);
+                case 2 -> new ShieldPowerUp(x, y);
+                default -> new HealthPowerUp(x, y);
+            });
+        }
+    }
+
+    /**
+     * Returns the commit checked out in the working directory, as reported by git, or
+     * "unknown" if git cannot tell.
+     */
+    private static String gitCommit() {
+        try {
+            Process git = new ProcessBuilder("git", "rev-parse", "HEAD")
+                    .redirectErrorStream(true).start();
+            String output = new String(git.getInputStream().readAllBytes()).trim();
+            return git.waitFor() == 0 && output.matches("[0-9a-f]+") ? output : "unknown";
+        } catch (IOException e) {
+            return "unknown";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "unknown";
+        }
+    }
+
+    private static long percentile(long[] sorted, double fraction) {
+        int index = (int) Math.ceil(fraction * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+}
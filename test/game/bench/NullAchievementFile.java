@@ -0,0 +1,44 @@
+package game.bench;
+
+import game.achievements.AchievementFile;
+import game.achievements.AchievementManager;
+import game.achievements.GameAchievement;
+
+import java.util.List;
+
+/**
+ * An AchievementFile that stores nothing, for benchmarks that should not touch the disk.
+ */
+public class NullAchievementFile implements AchievementFile {
+
+    /**
+     * Returns an achievement manager saving to a NullAchievementFile, holding the game's
+     * standard achievements.
+     * @return the achievement manager
+     */
+    public static AchievementManager standardAchievements() {
+        AchievementManager manager = new AchievementManager(new NullAchievementFile());
+        for (String name : List.of("Survivor", "Enemy Exterminator", "Sharp Shooter")) {
+            manager.addAchievement(new GameAchievement(name, name));
+        }
+        return manager;
+    }
+
+    @Override
+    public void setFileLocation(String fileLocation) {
+    }
+
+    @Override
+    public String getFileLocation() {
+        return DEFAULT_FILE_LOCATION;
+    }
+
+    @Override
+    public void save(String data) {
+    }
+
+    @Override
+    public List<String> read() {
+        return List.of();
+    }
+}
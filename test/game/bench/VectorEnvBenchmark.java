@@ -0,0 +1,39 @@
+package game.bench;
+
+import game.ai.VectorEnv;
+import game.utility.SplitMixRandom;
+
+/**
+ * Measures the throughput of VectorEnv in environment steps per second, with random actions.
+ *
+ * Run with: java game.bench.VectorEnvBenchmark [games] [steps]
+ */
+public class VectorEnvBenchmark {
+
+    /**
+     * Runs the benchmark.
+     * @param args optionally, the number of games and the number of steps per round
+     */
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 1_024;
+        int steps = args.length > 1 ? Integer.parseInt(args[1]) : 2_000;
+        SplitMixRandom random = new SplitMixRandom(1);
+        try (VectorEnv env = new VectorEnv(games, 1)) {
+            env.reset();
+            int[] actions = new int[games];
+            for (int round = 1; round <= 5; round++) {
+                long start = System.nanoTime();
+                for (int step = 0; step < steps; step++) {
+                    for (int i = 0; i < games; i++) {
+                        actions[i] = random.nextInt(VectorEnv.ACTIONS);
+                    }
+                    env.step(actions);
+                }
+                long elapsed = System.nanoTime() - start;
+                System.out.printf("round %d: %,.0f env-steps/s across %d games on %d threads%n",
+                        round, (double) games * steps * 1e9 / elapsed, games,
+                        Runtime.getRuntime().availableProcessors());
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package game.bench;
+
+import game.core.Ship;
+import game.exceptions.BoundaryExceededException;
+import game.utility.Direction;
+
+/**
+ * Measures the throughput of movement inputs that push the ship into a wall, comparing the
+ * exception-throwing Controllable.move() with the result-returning Controllable.tryMove().
+ *
+ * Run with: java game.bench.WallHuggingBenchmark [inputs per round]
+ */
+public class WallHuggingBenchmark {
+
+    private static final int ROUNDS = 5;
+
+    /**
+     * Runs the benchmark.
+     * @param args optionally, the number of inputs per round
+     */
+    public static void main(String[] args) {
+        int inputs = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        for (int round = 1; round <= ROUNDS; round++) {
+            double strict = measure(inputs, true);
+            double lenient = measure(inputs, false);
+            System.out.printf("round %d: move() %,.0f inputs/s, tryMove() %,.0f inputs/s (%.1fx)%n",
+                    round, strict, lenient, lenient / strict);
+        }
+    }
+
+    /**
+     * Pushes a ship against the left wall, alternating with moves down and back up so half of
+     * the inputs are blocked, as a bot hugging the wall would.
+     */
+    private static double measure(int inputs, boolean strict) {
+        Ship ship = new Ship(0, 10, 100);
+        int blocked = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < inputs; i++) {
+            Direction direction = switch (i & 3) {
+                case 1 -> Direction.DOWN;
+                case 3 -> Direction.UP;
+                default -> Direction.LEFT;
+            };
+            if (strict) {
+                try {
+                    ship.move(direction);
+                } catch (BoundaryExceededException e) {
+                    blocked++;
+                }
+            } else if (!ship.tryMove(direction)) {
+                blocked++;
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        if (blocked != inputs / 2) {
+            throw new IllegalStateException("Unexpected number of blocked moves: " + blocked);
+        }
+        return inputs * 1e9 / elapsed;
+    }
+}
@@ -0,0 +1,74 @@
+package game.core;
+
+import game.exceptions.BoundaryExceededException;
+import game.utility.Direction;
+import org.junit.Test;
+
+import java.util.Locale;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test for {@link Controllable}, using a {@link Ship}.
+ */
+public class ControllableTest {
+
+    @Test
+    public void testMoveInBounds() {
+        Ship ship = new Ship(5, 10, 100);
+        ship.move(Direction.UP);
+        ship.move(Direction.LEFT);
+        assertEquals(4, ship.getX());
+        assertEquals(9, ship.getY());
+    }
+
+    @Test
+    public void testMoveOutOfBoundsThrows() {
+        Ship ship = new Ship(0, 0, 100);
+        try {
+            ship.move(Direction.LEFT);
+            fail("Expected BoundaryExceededException");
+        } catch (BoundaryExceededException e) {
+            assertEquals("Cannot move left. Out of bounds!", e.getMessage());
+        }
+        assertEquals(0, ship.getX());
+    }
+
+    @Test
+    public void testMoveOutOfBoundsMessageIgnoresLocale() {
+        Locale original = Locale.getDefault();
+        Locale.setDefault(new Locale("tr", "TR"));
+        try {
+            new Ship(9, 0, 100).move(Direction.RIGHT);
+            fail("Expected BoundaryExceededException");
+        } catch (BoundaryExceededException e) {
+            assertEquals("Cannot move right. Out of bounds!", e.getMessage());
+        } finally {
+            Locale.setDefault(original);
+        }
+    }
+
+    @Test
+    public void testTryMoveInBounds() {
+        Ship ship = new Ship(5, 10, 100);
+        assertTrue(ship.tryMove(Direction.DOWN));
+        assertTrue(ship.tryMove(Direction.RIGHT));
+        assertEquals(6, ship.getX());
+        assertEquals(11, ship.getY());
+    }
+
+    @Test
+    public void testTryMoveBlockedAtEveryBoundary() {
+        Ship topLeft = new Ship(0, 0, 100);
+        assertFalse(topLeft.tryMove(Direction.UP));
+        assertFalse(topLeft.tryMove(Direction.LEFT));
+        assertEquals(0, topLeft.getX());
+        assertEquals(0, topLeft.getY());
+
+        Ship bottomRight = new Ship(9, 19, 100);
+        assertFalse(bottomRight.tryMove(Direction.DOWN));
+        assertFalse(bottomRight.tryMove(Direction.RIGHT));
+        assertEquals(9, bottomRight.getX());
+        assertEquals(19, bottomRight.getY());
+    }
+}
@@ -0,0 +1,33 @@
+package game.core;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test for {@link SpaceObjectKind}.
+ */
+public class SpaceObjectKindTest {
+
+    @Test
+    public void testOf() {
+        assertEquals(SpaceObjectKind.SHIP, SpaceObjectKind.of(new Ship()));
+        assertEquals(SpaceObjectKind.BULLET, SpaceObjectKind.of(new Bullet(1, 1)));
+        assertEquals(SpaceObjectKind.ASTEROID, SpaceObjectKind.of(new Asteroid(1, 1)));
+        assertEquals(SpaceObjectKind.ENEMY, SpaceObjectKind.of(new Enemy(1, 1)));
+        assertEquals(SpaceObjectKind.SHIELD_POWER_UP, SpaceObjectKind.of(new ShieldPowerUp(1, 1)));
+        assertEquals(SpaceObjectKind.HEALTH_POWER_UP, SpaceObjectKind.of(new HealthPowerUp(1, 1)));
+    }
+
+    @Test
+    public void testTextMatchesRender() {
+        assertEquals(new Ship().render().toString(), SpaceObjectKind.SHIP.getText());
+        assertEquals(new Bullet(0, 0).render().toString(), SpaceObjectKind.BULLET.getText());
+        assertEquals(new Asteroid(0, 0).render().toString(), SpaceObjectKind.ASTEROID.getText());
+        assertEquals(new Enemy(0, 0).render().toString(), SpaceObjectKind.ENEMY.getText());
+        assertEquals(new ShieldPowerUp(0, 0).render().toString(),
+                SpaceObjectKind.SHIELD_POWER_UP.getText());
+        assertEquals(new HealthPowerUp(0, 0).render().toString(),
+                SpaceObjectKind.HEALTH_POWER_UP.getText());
+    }
+}
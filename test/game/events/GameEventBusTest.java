@@ -0,0 +1,87 @@
+package game.events;
+
+import game.core.Asteroid;
+import game.core.Enemy;
+import game.core.ShieldPowerUp;
+import game.core.Ship;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test for {@link GameEventBus} and {@link GameEvent}.
+ */
+public class GameEventBusTest {
+
+    @Test
+    public void testDeliversInOrderOnFlush() {
+        GameEventBus bus = new GameEventBus();
+        List<String> lines = new ArrayList<>();
+        bus.subscribe(EnumSet.allOf(GameEventType.class), event -> lines.add(event.format()));
+        bus.publish(GameEventType.HIT, new Asteroid(1, 1), 10, 0);
+        bus.publish(GameEventType.PICKUP, new ShieldPowerUp(1, 1), 0, 0);
+        assertTrue(lines.isEmpty());
+        assertEquals(2, bus.pending());
+        bus.flush();
+        assertEquals(List.of("Hit by 🌑! Health reduced by 10.", "PowerUp collected: 💠"), lines);
+        assertEquals(0, bus.pending());
+    }
+
+    @Test
+    public void testFormatsMatchLogText() {
+        GameEventBus bus = new GameEventBus();
+        List<String> lines = new ArrayList<>();
+        bus.subscribe(EnumSet.allOf(GameEventType.class), event -> lines.add(event.format()));
+        Ship ship = new Ship();
+        bus.publish(GameEventType.HIT, new Enemy(0, 0), 20, 0);
+        bus.publish(GameEventType.LEVEL_UP, ship, 3, 12);
+        bus.publish(GameEventType.MOVE, ship, 4, 9);
+        bus.flush();
+        assertEquals(List.of("Hit by 👾! Health reduced by 20.",
+                "Level Up! Welcome to Level 3. Spawn rate increased to 12%.",
+                "Ship moved to (4, 9)"), lines);
+    }
+
+    @Test
+    public void testOnlySubscribedTypesDelivered() {
+        GameEventBus bus = new GameEventBus();
+        List<GameEventType> types = new ArrayList<>();
+        bus.subscribe(EnumSet.of(GameEventType.MOVE), event -> types.add(event.getType()));
+        bus.publish(GameEventType.FIRE, new Ship(), 0, 0);
+        assertEquals(0, bus.pending());
+        bus.publish(GameEventType.MOVE, new Ship(), 1, 2);
+        bus.flush();
+        assertEquals(List.of(GameEventType.MOVE), types);
+        assertFalse(bus.hasSubscribers(GameEventType.FIRE));
+    }
+
+    @Test
+    public void testFullBufferDeliversOldest() {
+        GameEventBus bus = new GameEventBus(4);
+        List<Integer> values = new ArrayList<>();
+        bus.subscribe(EnumSet.of(GameEventType.MOVE), event -> values.add(event.getFirst()));
+        Ship ship = new Ship();
+        for (int i = 0; i < 6; i++) {
+            bus.publish(GameEventType.MOVE, ship, i, 0);
+        }
+        assertEquals(List.of(0, 1), values);
+        bus.flush();
+        assertEquals(List.of(0, 1, 2, 3, 4, 5), values);
+    }
+
+    @Test
+    public void testUnsubscribe() {
+        GameEventBus bus = new GameEventBus();
+        List<GameEvent> events = new ArrayList<>();
+        GameEventListener listener = events::add;
+        bus.subscribe(EnumSet.of(GameEventType.FIRE), listener);
+        bus.unsubscribe(listener);
+        bus.publish(GameEventType.FIRE, new Ship(), 0, 0);
+        bus.flush();
+        assertTrue(events.isEmpty());
+    }
+}
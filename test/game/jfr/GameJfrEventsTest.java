@@ -0,0 +1,132 @@
+package game.jfr;
+
+import game.GameController;
+import game.GameModel;
+import game.achievements.AchievementManager;
+import game.achievements.FileHandler;
+import game.achievements.GameAchievement;
+import game.achievements.PlayerStatsTracker;
+import game.bench.HeadlessUI;
+import game.bench.NullAchievementFile;
+import game.utility.TickClock;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test for the game's Flight Recorder events.
+ */
+public class GameJfrEventsTest {
+
+    private static final List<String> GAME_EVENTS = List.of("game.TickPhase", "game.Spawn",
+            "game.Collision", "game.LevelUp", "game.AchievementMastered", "game.FileWrite");
+
+    private static void play(int ticks) {
+        GameModel model = new GameModel(text -> { }, new PlayerStatsTracker(new TickClock()));
+        model.setRandomSeed(4);
+        GameController controller = new GameController(new HeadlessUI(), model,
+                NullAchievementFile.standardAchievements());
+        for (int tick = 0; tick < ticks; tick++) {
+            controller.handlePlayerInput("F");
+            if (tick % 3 == 0) {
+                controller.handlePlayerInput(tick / 30 % 2 == 0 ? "A" : "D");
+            }
+            if (tick == ticks / 2) {
+                model.getShip().addScore(GameModel.SCORE_THRESHOLD); // Reach level 2
+            }
+            controller.onTick(tick);
+            model.getShip().heal(100);
+        }
+    }
+
+    private static List<RecordedEvent> record(boolean enable, Runnable work) throws IOException {
+        Path file = Files.createTempFile("game", ".jfr");
+        try (Recording recording = new Recording()) {
+            if (enable) {
+                for (String name : GAME_EVENTS) {
+                    recording.enable(name);
+                }
+            }
+            recording.start();
+            work.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().startsWith("game."))
+                    .collect(Collectors.toList());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static List<RecordedEvent> named(List<RecordedEvent> events, String name) {
+        return events.stream().filter(event -> event.getEventType().getName().equals(name))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    public void testDisabledByDefault() throws IOException {
+        assertTrue(record(false, () -> play(500)).isEmpty());
+    }
+
+    @Test
+    public void testTickEvents() throws IOException {
+        List<RecordedEvent> events = record(true, () -> play(500));
+
+        List<RecordedEvent> phases = named(events, "game.TickPhase");
+        assertEquals(500 * 7, phases.size());
+        Set<String> names = phases.stream().map(event -> event.getString("phase"))
+                .collect(Collectors.toSet());
+        assertEquals(Set.of(TickPhaseEvent.CLOCK, TickPhaseEvent.UPDATE, TickPhaseEvent.COLLISIONS,
+                TickPhaseEvent.SPAWN, TickPhaseEvent.LEVEL_UP, TickPhaseEvent.ACHIEVEMENTS,
+                TickPhaseEvent.RENDER), names);
+        assertEquals(499, phases.stream().mapToInt(event -> event.getInt("tick")).max().getAsInt());
+
+        List<RecordedEvent> spawns = named(events, "game.Spawn");
+        assertFalse(spawns.isEmpty());
+        assertEquals(0, spawns.get(0).getInt("y"));
+
+        List<RecordedEvent> collisions = named(events, "game.Collision");
+        assertFalse(collisions.isEmpty());
+        for (RecordedEvent collision : collisions) {
+            assertTrue(Set.of("SHIP", "BULLET").contains(collision.getString("first")));
+            assertNotNull(collision.getString("second"));
+        }
+        List<RecordedEvent> levelUps = named(events, "game.LevelUp");
+        assertEquals(1, levelUps.size());
+        assertEquals(2, levelUps.get(0).getInt("level"));
+    }
+
+    @Test
+    public void testAchievementEvents() throws IOException {
+        Path achievements = Files.createTempFile("achievements", ".txt");
+        try {
+            List<RecordedEvent> events = record(true, () -> {
+                FileHandler file = new FileHandler();
+                file.setFileLocation(achievements.toString());
+                AchievementManager manager = new AchievementManager(file);
+                manager.addAchievement(new GameAchievement("Survivor", "Stay alive."));
+                manager.updateAchievement("Survivor", 1.0);
+                manager.logAchievementMastered();
+            });
+
+            RecordedEvent mastered = named(events, "game.AchievementMastered").get(0);
+            assertEquals("Survivor", mastered.getString("name"));
+            RecordedEvent write = named(events, "game.FileWrite").get(0);
+            assertEquals(achievements.toString(), write.getString("path"));
+            assertTrue(write.getBoolean("succeeded"));
+        } finally {
+            Files.deleteIfExists(achievements);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package game.progression;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test for {@link LevelProgression} and {@link ProgressionCurve}.
+ */
+public class LevelProgressionTest {
+
+    private static LevelProgression linear() {
+        return new LevelProgression(ProgressionCurve.linear(100), 1, 2, 5, 100);
+    }
+
+    @Test
+    public void testLinearMatchesOriginalProgression() {
+        LevelProgression progression = linear();
+        assertFalse(progression.update(99));
+        assertTrue(progression.update(100));
+        assertEquals(2, progression.getLevel());
+        assertEquals(7, progression.getSpawnRate());
+        assertEquals(200, progression.getNextLevelScore());
+    }
+
+    @Test
+    public void testOneLevelPerUpdate() {
+        LevelProgression progression = linear();
+        assertTrue(progression.update(1000));
+        assertTrue(progression.update(1000));
+        assertEquals(3, progression.getLevel());
+    }
+
+    @Test
+    public void testSpawnRateCapped() {
+        LevelProgression progression = linear();
+        for (int i = 0; i < 50; i++) {
+            progression.update(Integer.MAX_VALUE - 1);
+        }
+        assertEquals(51, progression.getLevel());
+        assertEquals(100, progression.getSpawnRate());
+    }
+
+    @Test
+    public void testListenersNotified() {
+        LevelProgression progression = linear();
+        List<String> events = new ArrayList<>();
+        LevelUpListener listener = (level, spawnRate) -> events.add(level + ":" + spawnRate);
+        progression.addListener(listener);
+        progression.update(100);
+        progression.update(150);
+        progression.removeListener(listener);
+        progression.update(200);
+        assertEquals(List.of("2:7"), events);
+    }
+
+    @Test
+    public void testExponentialCurve() {
+        ProgressionCurve curve = ProgressionCurve.exponential(100, 2);
+        assertEquals(100, curve.scoreToComplete(1));
+        assertEquals(300, curve.scoreToComplete(2));
+        assertEquals(700, curve.scoreToComplete(3));
+        assertEquals(Integer.MAX_VALUE, curve.scoreToComplete(100));
+    }
+
+    @Test
+    public void testTableCurveExtendsLastStep() {
+        ProgressionCurve curve = ProgressionCurve.table(50, 150, 400);
+        assertEquals(50, curve.scoreToComplete(1));
+        assertEquals(400, curve.scoreToComplete(3));
+        assertEquals(650, curve.scoreToComplete(4));
+        assertEquals(900, curve.scoreToComplete(5));
+    }
+
+    @Test
+    public void testLinearClampsLargeLevels() {
+        assertEquals(Integer.MAX_VALUE, ProgressionCurve.linear(100).scoreToComplete(Integer.MAX_VALUE));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDecreasingTable() {
+        ProgressionCurve.table(100, 50);
+    }
+}
@@ -0,0 +1,179 @@
+package game.spawn;
+
+import game.GameModel;
+import game.core.SpaceObject;
+import game.core.SpaceObjectKind;
+import game.utility.LegacyRandom;
+import game.utility.SplitMixRandom;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test for {@link SpawnScheduler}, {@link SpawnTable}, {@link SpawnConfig} and
+ * {@link SpawnWeights}.
+ */
+public class SpawnSchedulerTest {
+
+    private static Map<SpaceObjectKind, Integer> run(SpawnScheduler scheduler, int level, int ticks) {
+        Map<SpaceObjectKind, Integer> counts = new EnumMap<>(SpaceObjectKind.class);
+        SplitMixRandom random = new SplitMixRandom(3);
+        for (int i = 0; i < ticks; i++) {
+            scheduler.spawn(level, random, random, 10, (kind, x) -> {
+                assertTrue(x >= 0 && x < 10);
+                counts.merge(kind, 1, Integer::sum);
+            });
+        }
+        return counts;
+    }
+
+    @Test
+    public void testTableChances() {
+        SpawnTable table = new SpawnTable(List.of(
+                new SpawnRule(SpaceObjectKind.ASTEROID, 300),
+                new SpawnRule(SpaceObjectKind.ENEMY, 100)));
+        SplitMixRandom random = new SplitMixRandom(1);
+        int asteroids = 0;
+        int enemies = 0;
+        int nothing = 0;
+        for (int i = 0; i < 100_000; i++) {
+            SpawnRule rule = table.roll(random);
+            if (rule == null) {
+                nothing++;
+            } else if (rule.getKind() == SpaceObjectKind.ASTEROID) {
+                asteroids++;
+            } else {
+                enemies++;
+            }
+        }
+        assertEquals(30_000, asteroids, 1_000);
+        assertEquals(10_000, enemies, 1_000);
+        assertEquals(60_000, nothing, 1_000);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTableOverfull() {
+        new SpawnTable(List.of(
+                new SpawnRule(SpaceObjectKind.ASTEROID, 600),
+                new SpawnRule(SpaceObjectKind.ENEMY, 500)));
+    }
+
+    @Test
+    public void testBurstAndLevelFallback() {
+        SpawnScheduler scheduler = SpawnConfig.parse(List.of(
+                "level 2",
+                "wave 0 enemy=1000*3"));
+        assertEquals(Integer.valueOf(30), run(scheduler, 1, 10).get(SpaceObjectKind.ENEMY));
+        assertEquals(Integer.valueOf(30), run(scheduler, 7, 10).get(SpaceObjectKind.ENEMY));
+    }
+
+    @Test
+    public void testWavesRepeat() {
+        SpawnScheduler scheduler = SpawnConfig.parse(List.of(
+                "# calm, then a wave of asteroids",
+                "level 1",
+                "wave 3",
+                "wave 2 asteroid=1000  # always spawns"));
+        List<Boolean> spawned = new ArrayList<>();
+        SplitMixRandom random = new SplitMixRandom(9);
+        for (int i = 0; i < 10; i++) {
+            boolean[] any = new boolean[1];
+            scheduler.spawn(1, random, random, 10, (kind, x) -> any[0] = true);
+            spawned.add(any[0]);
+        }
+        assertEquals(List.of(false, false, false, true, true, false, false, false, true, true),
+                spawned);
+    }
+
+    @Test
+    public void testLevelChangeRestartsPattern() {
+        SpawnScheduler scheduler = SpawnConfig.parse(List.of(
+                "level 1",
+                "wave 1 asteroid=1000",
+                "wave 5"));
+        assertEquals(Integer.valueOf(1), run(scheduler, 1, 3).get(SpaceObjectKind.ASTEROID));
+        assertEquals(Integer.valueOf(1), run(scheduler, 2, 3).get(SpaceObjectKind.ASTEROID));
+    }
+
+    @Test
+    public void testPowerUpSplitsEvenly() {
+        SpawnScheduler scheduler = SpawnConfig.parse(List.of("level 1", "wave 0 power_up=1000"));
+        Map<SpaceObjectKind, Integer> counts = run(scheduler, 1, 10_000);
+        assertEquals(5_000, counts.get(SpaceObjectKind.SHIELD_POWER_UP), 300);
+        assertEquals(5_000, counts.get(SpaceObjectKind.HEALTH_POWER_UP), 300);
+    }
+
+    @Test
+    public void testInvalidConfigReportsLine() {
+        try {
+            SpawnConfig.parse(List.of("level 1", "wave 0 bullet=5"));
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().startsWith("Line 2:"));
+        }
+    }
+
+    @Test
+    public void testWeightsPerLevel() {
+        SpawnWeights weights = new SpawnWeights(Map.of(
+                2, Map.of(SpaceObjectKind.SHIELD_POWER_UP, 1),
+                4, Map.of(SpaceObjectKind.HEALTH_POWER_UP, 1)));
+        SplitMixRandom random = new SplitMixRandom(2);
+        assertEquals(SpaceObjectKind.SHIELD_POWER_UP, weights.sample(1, random));
+        assertEquals(SpaceObjectKind.SHIELD_POWER_UP, weights.sample(3, random));
+        assertEquals(SpaceObjectKind.HEALTH_POWER_UP, weights.sample(4, random));
+        assertEquals(SpaceObjectKind.HEALTH_POWER_UP, weights.sample(50, random));
+        assertTrue(weights.allMatch(SpaceObjectKind::isPowerUp));
+    }
+
+    @Test
+    public void testWeightsIgnoreMapOrder() {
+        Map<SpaceObjectKind, Integer> shieldFirst = new LinkedHashMap<>();
+        shieldFirst.put(SpaceObjectKind.SHIELD_POWER_UP, 1);
+        shieldFirst.put(SpaceObjectKind.HEALTH_POWER_UP, 3);
+        Map<SpaceObjectKind, Integer> healthFirst = new LinkedHashMap<>();
+        healthFirst.put(SpaceObjectKind.HEALTH_POWER_UP, 3);
+        healthFirst.put(SpaceObjectKind.SHIELD_POWER_UP, 1);
+
+        SpawnWeights first = SpawnWeights.of(shieldFirst);
+        SpawnWeights second = SpawnWeights.of(healthFirst);
+        LegacyRandom firstRandom = new LegacyRandom(42);
+        LegacyRandom secondRandom = new LegacyRandom(42);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(first.sample(1, firstRandom), second.sample(1, secondRandom));
+        }
+    }
+
+    /**
+     * Spawns objects on an empty board each tick and lists where they spawned, and as what.
+     */
+    private static List<String> spawns(SpawnWeights enemyWeights, boolean withKinds) {
+        GameModel model = new GameModel(text -> { });
+        model.setRandomStreams(new SplitMixRandom(7));
+        model.setEnemyWeights(enemyWeights);
+        List<String> spawns = new ArrayList<>();
+        for (int tick = 0; tick < 3_000; tick++) {
+            model.getSpaceObjects().clear();
+            model.spawnObjects();
+            for (SpaceObject object : model.getSpaceObjects()) {
+                spawns.add(tick + ":" + object.getX()
+                        + (withKinds ? ":" + SpaceObjectKind.of(object) : ""));
+            }
+        }
+        return spawns;
+    }
+
+    @Test
+    public void testEnemyWeightsDoNotShiftOtherStreams() {
+        SpawnWeights weights = SpawnWeights.of(Map.of(
+                SpaceObjectKind.ENEMY, 1, SpaceObjectKind.ASTEROID, 1));
+        assertEquals(spawns(null, false), spawns(weights, false));
+        assertNotEquals(spawns(null, true), spawns(weights, true));
+    }
+}
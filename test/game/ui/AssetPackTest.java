@@ -0,0 +1,116 @@
+package game.ui;
+
+import org.junit.Test;
+
+import java.awt.*;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test for {@link AssetPack} and {@link Assets}.
+ */
+public class AssetPackTest {
+
+    @Test
+    public void testWriteAndRead() throws IOException {
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        entries.put("assets/a.png", new byte[]{1, 2, 3});
+        entries.put("assets/b.png", new byte[0]);
+        entries.put("assets/c.png", new byte[]{4});
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        AssetPack.of(entries).write(out);
+
+        AssetPack pack = AssetPack.read(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(entries.keySet(), pack.names());
+        assertArrayEquals(new byte[]{1, 2, 3}, pack.get("assets/a.png"));
+        assertArrayEquals(new byte[0], pack.get("assets/b.png"));
+        assertArrayEquals(new byte[]{4}, pack.get("assets/c.png"));
+        assertNull(pack.get("assets/d.png"));
+    }
+
+    @Test(expected = IOException.class)
+    public void testRejectsOtherFiles() throws IOException {
+        AssetPack.read(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5, 6, 7, 8}));
+    }
+
+    @Test
+    public void testClasspathPackHoldsGameImages() throws Exception {
+        AssetPack pack = AssetPack.fromClasspath();
+        assertNotNull(pack.get("assets/ship.png"));
+        assertNotNull(pack.get("assets/enemy.png"));
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Assets.preload(executor).get();
+        } finally {
+            executor.shutdown();
+        }
+        Image ship = Assets.image("assets/ship.png");
+        assertTrue(ship.getWidth(null) > 0);
+        assertSame(ship, Assets.image("assets/ship.png"));
+    }
+
+    @Test(expected = IOException.class)
+    public void testMissingImage() throws IOException {
+        Assets.image("assets/missing.png");
+    }
+
+    @Test
+    public void testClasspathPackMatchesAssetsDirectory() throws IOException {
+        AssetPack packed = AssetPack.fromClasspath();
+        AssetPack files = AssetPack.ofDirectory(Paths.get("assets"));
+        assertEquals("Regenerate resources/assets.pack; see AssetPack",
+                files.names(), packed.names());
+        for (String name : files.names()) {
+            assertArrayEquals("Regenerate resources/assets.pack; see AssetPack",
+                    files.get(name), packed.get(name));
+        }
+    }
+
+    @Test
+    public void testOverrideDirectoryTakesPrecedenceOverPack() throws IOException {
+        Path directory = Files.createTempDirectory("assets");
+        Path file = directory.resolve("edited.png");
+        try {
+            Files.write(file, new byte[]{5, 6});
+            AssetPack pack = AssetPack.of(Map.of("edited.png", new byte[]{1},
+                    "assets/packed-only.png", new byte[]{2}));
+            assertArrayEquals(new byte[]{5, 6}, Assets.read(pack, directory, "edited.png"));
+            assertArrayEquals(new byte[]{2}, Assets.read(pack, directory, "assets/packed-only.png"));
+            assertNull(Assets.read(pack, directory, "assets/missing.png"));
+        } finally {
+            Files.delete(file);
+            Files.delete(directory);
+        }
+    }
+
+    @Test
+    public void testPackIsUsedWithoutOverrideDirectory() throws IOException {
+        AssetPack pack = AssetPack.of(Map.of("assets/ship.png", new byte[]{1}));
+        // The file exists relative to the working directory, but is only read when asked to
+        assertArrayEquals(new byte[]{1}, Assets.read(pack, null, "assets/ship.png"));
+    }
+
+    @Test
+    public void testFailedImageIsRetried() throws Exception {
+        String path = "assets/retried.png";
+        CompletableFuture<Image> failed = Assets.load(AssetPack.of(Map.of()), path, Runnable::run);
+        assertTrue(failed.isCompletedExceptionally());
+
+        byte[] ship = AssetPack.fromClasspath().get("assets/ship.png");
+        AssetPack fixed = AssetPack.of(Map.of(path, ship));
+        Image image = Assets.load(fixed, path, Runnable::run).get();
+        assertTrue(image.getWidth(null) > 0);
+    }
+}
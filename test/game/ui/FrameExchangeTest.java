@@ -0,0 +1,98 @@
+package game.ui;
+
+import game.core.Asteroid;
+import game.core.Bullet;
+import game.core.ObjectWithPosition;
+import game.core.SpaceObject;
+import game.core.SpaceObjectKind;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test for {@link FrameExchange} and {@link FrameSnapshot}.
+ */
+public class FrameExchangeTest {
+
+    @Test
+    public void testEmptyBeforePublish() {
+        FrameExchange frames = new FrameExchange();
+        assertEquals(0, frames.latest().size());
+    }
+
+    @Test
+    public void testCaptureCopiesObjects() {
+        FrameExchange frames = new FrameExchange();
+        List<SpaceObject> objects = List.of(new Asteroid(1, 2), new Bullet(3, 4));
+        frames.beginFrame().capture(objects, frames.nextSequence());
+        frames.publish();
+
+        FrameSnapshot frame = frames.latest();
+        assertEquals(2, frame.size());
+        assertEquals(1, frame.getSequence());
+        assertEquals(SpaceObjectKind.ASTEROID, frame.getKind(0));
+        assertEquals(1, frame.getX(0));
+        assertEquals(2, frame.getY(0));
+        assertEquals(SpaceObjectKind.BULLET, frame.getKind(1));
+        assertEquals(3, frame.getX(1));
+        assertEquals(4, frame.getY(1));
+    }
+
+    private static class Comet extends ObjectWithPosition {
+        Comet(int x, int y) {
+            super(x, y);
+        }
+
+        @Override
+        public ObjectGraphic render() {
+            return new ObjectGraphic("*", "assets/asteroid.png");
+        }
+
+        @Override
+        public void tick(int tick) {
+        }
+    }
+
+    @Test
+    public void testCaptureKeepsClassOfOtherObjects() {
+        FrameSnapshot frame = new FrameSnapshot();
+        frame.capture(List.of(new Comet(1, 1), new Asteroid(2, 2)), 1);
+        assertEquals(SpaceObjectKind.OTHER, frame.getKind(0));
+        assertEquals(Comet.class, frame.getType(0));
+        assertNull(frame.getType(1));
+
+        frame.capture(List.of(new Asteroid(3, 3)), 2);
+        assertNull(frame.getType(0));
+    }
+
+    @Test
+    public void testHeldFrameNotOverwritten() {
+        FrameExchange frames = new FrameExchange();
+        frames.beginFrame().capture(List.of(new Asteroid(0, 0)), frames.nextSequence());
+        frames.publish();
+        FrameSnapshot held = frames.latest();
+
+        for (int i = 1; i <= 5; i++) {
+            FrameSnapshot next = frames.beginFrame();
+            assertNotSame(held, next);
+            next.capture(List.of(new Asteroid(i, i)), frames.nextSequence());
+            frames.publish();
+        }
+        assertEquals(0, held.getX(0));
+
+        FrameSnapshot latest = frames.latest();
+        assertEquals(6, latest.getSequence());
+        assertEquals(5, latest.getX(0));
+    }
+
+    @Test
+    public void testLatestUnchangedWithoutPublish() {
+        FrameExchange frames = new FrameExchange();
+        frames.beginFrame().capture(List.of(new Bullet(2, 2)), frames.nextSequence());
+        frames.publish();
+        FrameSnapshot first = frames.latest();
+        assertSame(first, frames.latest());
+    }
+}
@@ -0,0 +1,71 @@
+package game.ui;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test for {@link InputQueue}.
+ */
+public class InputQueueTest {
+
+    @Test
+    public void testPollEmpty() {
+        InputQueue queue = new InputQueue(4);
+        assertEquals(InputQueue.EMPTY, queue.poll());
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    public void testFifoOrder() {
+        InputQueue queue = new InputQueue(4);
+        queue.offer('w');
+        queue.offer('a');
+        queue.offer('f');
+        assertEquals(3, queue.size());
+        assertEquals('w', queue.poll());
+        assertEquals('a', queue.poll());
+        assertEquals('f', queue.poll());
+        assertEquals(InputQueue.EMPTY, queue.poll());
+    }
+
+    @Test
+    public void testCapacityRoundedToPowerOfTwo() {
+        assertEquals(8, new InputQueue(5).capacity());
+        assertEquals(8, new InputQueue(8).capacity());
+    }
+
+    @Test
+    public void testDropsWhenFull() {
+        InputQueue queue = new InputQueue(2);
+        assertTrue(queue.offer('w'));
+        assertTrue(queue.offer('s'));
+        assertFalse(queue.offer('d'));
+        assertEquals('w', queue.poll());
+        assertTrue(queue.offer('d'));
+        assertEquals('s', queue.poll());
+        assertEquals('d', queue.poll());
+    }
+
+    @Test
+    public void testSingleProducerSingleConsumer() throws InterruptedException {
+        InputQueue queue = new InputQueue(16);
+        int keys = 100_000;
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < keys; i++) {
+                while (!queue.offer(i)) {
+                    Thread.yield();
+                }
+            }
+        });
+        producer.start();
+        for (int expected = 0; expected < keys; expected++) {
+            int key;
+            while ((key = queue.poll()) == InputQueue.EMPTY) {
+                Thread.yield();
+            }
+            assertEquals(expected, key);
+        }
+        producer.join();
+    }
+}
@@ -0,0 +1,80 @@
+package game.ui;
+
+import game.core.Bullet;
+import game.core.Enemy;
+import game.core.SpaceObject;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test for {@link MotionTracker}.
+ */
+public class MotionTrackerTest {
+
+    private static FrameSnapshot capture(MotionTracker tracker, List<SpaceObject> objects) {
+        FrameSnapshot frame = new FrameSnapshot();
+        frame.capture(objects, 1);
+        tracker.track(objects, frame);
+        return frame;
+    }
+
+    @Test
+    public void testNewObjectsDoNotMove() {
+        MotionTracker tracker = new MotionTracker();
+        FrameSnapshot frame = capture(tracker, List.of(new Bullet(2, 5)));
+        assertFalse(frame.isMoving(0));
+        assertEquals(2, frame.getFromX(0));
+        assertEquals(5, frame.getFromY(0));
+    }
+
+    @Test
+    public void testMovedObjectsStartFromTheirPreviousPosition() {
+        MotionTracker tracker = new MotionTracker();
+        Bullet bullet = new Bullet(2, 5);
+        Enemy enemy = new Enemy(7, 1);
+        List<SpaceObject> objects = new ArrayList<>(List.of(bullet, enemy));
+        capture(tracker, objects);
+
+        bullet.tick(1);
+        objects.add(0, new Bullet(0, 0));
+        FrameSnapshot frame = capture(tracker, objects);
+
+        assertFalse(frame.isMoving(0));
+        assertTrue(frame.isMoving(1));
+        assertEquals(5, frame.getFromY(1));
+        assertEquals(4, frame.getY(1));
+        assertFalse(frame.isMoving(2));
+    }
+
+    @Test
+    public void testRemovedObjectsAreForgotten() {
+        MotionTracker tracker = new MotionTracker();
+        Bullet bullet = new Bullet(2, 5);
+        capture(tracker, List.of(bullet));
+        capture(tracker, List.of());
+        bullet.tick(1);
+        // The bullet comes back as a new object, so it does not slide
+        assertFalse(capture(tracker, List.of(bullet)).isMoving(0));
+    }
+
+    @Test
+    public void testObjectsSlideFromTheLastFrameOnly() {
+        MotionTracker tracker = new MotionTracker();
+        Bullet bullet = new Bullet(2, 5);
+        List<SpaceObject> objects = List.of(bullet);
+        capture(tracker, objects);
+        bullet.tick(1);
+        capture(tracker, objects);
+        bullet.tick(2);
+        FrameSnapshot frame = capture(tracker, objects);
+        assertEquals(4, frame.getFromY(0));
+        assertEquals(3, frame.getY(0));
+
+        frame = capture(tracker, objects); // Stopped
+        assertFalse(frame.isMoving(0));
+    }
+}
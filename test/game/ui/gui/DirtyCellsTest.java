@@ -0,0 +1,103 @@
+package game.ui.gui;
+
+import game.core.Asteroid;
+import game.core.Bullet;
+import game.core.SpaceObject;
+import game.core.Ship;
+import game.ui.FrameSnapshot;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test for {@link DirtyCells}.
+ */
+public class DirtyCellsTest {
+
+    private static FrameSnapshot frame(SpaceObject... objects) {
+        FrameSnapshot frame = new FrameSnapshot();
+        frame.capture(new ArrayList<>(List.of(objects)), 1);
+        return frame;
+    }
+
+    @Test
+    public void testFirstFrameIsFull() {
+        DirtyCells cells = new DirtyCells(10, 21);
+        cells.update(frame(new Ship()));
+        assertTrue(cells.isFull());
+        assertEquals(210, cells.count());
+    }
+
+    @Test
+    public void testOnlyChangedCellsAreDirty() {
+        DirtyCells cells = new DirtyCells(10, 21);
+        Ship ship = new Ship(5, 10, 100);
+        cells.update(frame(ship, new Asteroid(2, 3), new Bullet(5, 9)));
+        cells.update(frame(ship, new Asteroid(2, 3), new Bullet(5, 8)));
+
+        assertFalse(cells.isFull());
+        assertEquals(2, cells.count());
+        assertTrue(cells.isDirty(5, 9));
+        assertTrue(cells.isDirty(5, 8));
+        assertFalse(cells.isDirty(2, 3));
+        assertFalse(cells.isDirty(5, 10));
+        assertEquals(5, cells.getMinX());
+        assertEquals(5, cells.getMaxX());
+        assertEquals(8, cells.getMinY());
+        assertEquals(9, cells.getMaxY());
+
+        cells.update(frame(ship, new Asteroid(2, 3), new Bullet(5, 8)));
+        assertEquals(0, cells.count());
+    }
+
+    @Test
+    public void testDrawingOrderWithinACellMatters() {
+        DirtyCells cells = new DirtyCells(10, 21);
+        cells.update(frame(new Ship(1, 1, 100), new Bullet(1, 1)));
+        cells.update(frame(new Bullet(1, 1), new Ship(1, 1, 100)));
+        assertEquals(1, cells.count());
+        assertTrue(cells.isDirty(1, 1));
+    }
+
+    @Test
+    public void testObjectsOutsideTheGridForceFullRepaints() {
+        DirtyCells cells = new DirtyCells(10, 21);
+        cells.update(frame());
+        cells.update(frame(new Bullet(3, -1)));
+        assertTrue(cells.isFull());
+        // The next frame must also be full, to clear what was drawn outside the grid
+        cells.update(frame());
+        assertTrue(cells.isFull());
+        cells.update(frame());
+        assertFalse(cells.isFull());
+    }
+
+    @Test
+    public void testInvalidateForcesFullRepaint() {
+        DirtyCells cells = new DirtyCells(10, 21);
+        cells.update(frame());
+        cells.invalidate();
+        cells.update(frame());
+        assertTrue(cells.isFull());
+    }
+
+    @Test
+    public void testMovingObjectsCanBeSkipped() {
+        DirtyCells cells = new DirtyCells(10, 21);
+        Bullet bullet = new Bullet(4, 4);
+        List<SpaceObject> objects = List.of(new Asteroid(1, 1), bullet);
+        FrameSnapshot frame = new FrameSnapshot();
+        frame.capture(objects, 1);
+        cells.update(frame, true);
+
+        frame.capture(objects, 2);
+        frame.setFrom(1, 4, 5);
+        cells.update(frame, true);
+        // The sliding bullet is drawn over the board, so only its cell on the board is cleared
+        assertEquals(1, cells.count());
+        assertTrue(cells.isDirty(4, 4));
+    }
+}
@@ -0,0 +1,64 @@
+package game.ui.gui;
+
+import org.junit.Test;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test for {@link SpriteAtlas}.
+ */
+public class SpriteAtlasTest {
+
+    private static BufferedImage filled(int width, int height, Color color) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(color);
+        g.fillRect(0, 0, width, height);
+        g.dispose();
+        return image;
+    }
+
+    @Test
+    public void testSpritesAreScaledIntoTheirSlots() {
+        Image[] sprites = {filled(200, 200, Color.RED), null, filled(100, 50, Color.BLUE)};
+        SpriteAtlas atlas = SpriteAtlas.build(sprites, 20, 30, null);
+        BufferedImage image = (BufferedImage) atlas.getImage();
+
+        assertEquals(60, image.getWidth());
+        assertEquals(30, image.getHeight());
+        assertTrue(atlas.has(0));
+        assertFalse(atlas.has(1));
+        assertTrue(atlas.has(2));
+        assertFalse(atlas.has(3));
+
+        // The square sprite fills the slot's width and is centred vertically
+        assertEquals(Color.RED.getRGB(), image.getRGB(10, 15));
+        assertEquals(0, image.getRGB(10, 2));
+        // The empty slot stays transparent
+        assertEquals(0, image.getRGB(30, 15));
+        // The wide sprite is 20 by 10, centred in the third slot
+        assertEquals(Color.BLUE.getRGB(), image.getRGB(50, 15));
+        assertEquals(0, image.getRGB(50, 8));
+    }
+
+    @Test
+    public void testDrawCopiesTheSlot() {
+        Image[] sprites = {filled(8, 8, Color.RED), filled(8, 8, Color.GREEN)};
+        SpriteAtlas atlas = SpriteAtlas.build(sprites, 8, 8, null);
+        BufferedImage target = new BufferedImage(16, 16, BufferedImage.TYPE_INT_ARGB);
+        Graphics g = target.getGraphics();
+        atlas.draw(g, 1, 8, 8, 8, 8);
+        g.dispose();
+
+        assertEquals(Color.GREEN.getRGB(), target.getRGB(12, 12));
+        assertEquals(0, target.getRGB(4, 4));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testEmptyCellsAreRejected() {
+        SpriteAtlas.build(new Image[1], 0, 10, null);
+    }
+}
@@ -0,0 +1,73 @@
+package game.ui.spectator;
+
+import game.core.Asteroid;
+import game.core.Bullet;
+import game.core.SpaceObject;
+import game.core.SpaceObjectKind;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test for {@link SpectatorEncoder} and {@link SpectatorDecoder}.
+ */
+public class SpectatorEncoderTest {
+
+    private static ByteBuffer body(ByteBuffer message) {
+        ByteBuffer copy = message.duplicate();
+        assertEquals(copy.remaining() - Integer.BYTES, copy.getInt());
+        return copy.slice();
+    }
+
+    @Test
+    public void testDeltaRoundTrip() {
+        SpectatorEncoder encoder = new SpectatorEncoder();
+        SpectatorDecoder decoder = new SpectatorDecoder();
+        Asteroid asteroid = new Asteroid(2, 0);
+        Bullet bullet = new Bullet(4, 10);
+        List<SpaceObject> objects = new ArrayList<>(List.of(asteroid, bullet));
+
+        encoder.setStat("Score", "0");
+        assertTrue(decoder.apply(body(encoder.encodeKeyframe(0))));
+        assertTrue(decoder.apply(body(encoder.encodeDelta(objects, 1))));
+        assertEquals(2, decoder.getEntityCount());
+        assertEquals("0", decoder.getStats().get("Score"));
+
+        bullet.tick(2);
+        objects.remove(asteroid);
+        encoder.setStat("Score", "50");
+        assertTrue(decoder.apply(body(encoder.encodeDelta(objects, 2))));
+        assertEquals(1, decoder.getEntityCount());
+        assertEquals(2, decoder.getFrame());
+        assertEquals("50", decoder.getStats().get("Score"));
+        assertTrue(decoder.draw(10, 20).contains(SpaceObjectKind.BULLET.getText()));
+    }
+
+    @Test
+    public void testUnchangedFrameIsSmall() {
+        SpectatorEncoder encoder = new SpectatorEncoder();
+        List<SpaceObject> objects = List.of(new Asteroid(1, 1), new Asteroid(2, 2));
+        encoder.encodeDelta(objects, 1);
+        ByteBuffer delta = encoder.encodeDelta(objects, 2);
+        // Header plus four empty section counts
+        assertEquals(Integer.BYTES + Byte.BYTES + Long.BYTES + 4 * Short.BYTES, delta.remaining());
+    }
+
+    @Test
+    public void testKeyframeResyncsDecoder() {
+        SpectatorEncoder encoder = new SpectatorEncoder();
+        List<SpaceObject> objects = List.of(new Asteroid(1, 1), new Bullet(3, 3));
+        encoder.setStat("Level", "2");
+        encoder.encodeDelta(objects, 1);
+
+        SpectatorDecoder late = new SpectatorDecoder();
+        assertFalse(late.apply(body(encoder.encodeDelta(objects, 2))));
+        assertTrue(late.apply(body(encoder.encodeKeyframe(2))));
+        assertEquals(2, late.getEntityCount());
+        assertEquals("2", late.getStats().get("Level"));
+    }
+}
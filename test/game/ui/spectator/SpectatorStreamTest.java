@@ -0,0 +1,148 @@
+package game.ui.spectator;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.function.LongFunction;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test for {@link SpectatorStream}, covering spectators that read slower than frames
+ * are published.
+ */
+public class SpectatorStreamTest {
+
+    /**
+     * A channel that accepts a limited number of bytes before it has to be given more, like a
+     * socket whose send buffer is full.
+     */
+    private static class SlowChannel implements WritableByteChannel {
+        private final ByteArrayOutputStream received = new ByteArrayOutputStream();
+        private int budget = 0;
+        private boolean open = true;
+
+        @Override
+        public int write(ByteBuffer source) {
+            int length = Math.min(budget, source.remaining());
+            for (int i = 0; i < length; i++) {
+                received.write(source.get());
+            }
+            budget -= length;
+            return length;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return open;
+        }
+
+        @Override
+        public void close() {
+            open = false;
+        }
+
+        /**
+         * Returns everything written so far, and forgets it.
+         */
+        private String take() {
+            String text = received.toString(StandardCharsets.US_ASCII);
+            received.reset();
+            return text;
+        }
+    }
+
+    private SlowChannel channel;
+    private SpectatorStream stream;
+    private int keyframesEncoded;
+    private final LongFunction<ByteBuffer> keyframe = frame -> {
+        keyframesEncoded++;
+        return message("K" + frame);
+    };
+
+    @Before
+    public void setUp() {
+        channel = new SlowChannel();
+        stream = SpectatorStream.toChannel(channel);
+    }
+
+    private static ByteBuffer message(String text) {
+        return ByteBuffer.wrap(text.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Lets the channel accept the given number of bytes, then publishes the frame.
+     */
+    private void publish(long frame, int budget) {
+        channel.budget = budget;
+        stream.publish(message("D" + frame), keyframe, frame);
+    }
+
+    @Test
+    public void testUpToDateSpectatorGetsDeltas() {
+        publish(0, Integer.MAX_VALUE);
+        publish(1, Integer.MAX_VALUE);
+        publish(2, Integer.MAX_VALUE);
+        assertEquals("K0D1D2", channel.take());
+        assertEquals(1, keyframesEncoded);
+    }
+
+    @Test
+    public void testStalledSpectatorSkipsDeltasThenGetsKeyframe() {
+        publish(0, 1); // Half of the first keyframe is sent
+        publish(1, 0);
+        publish(2, 0);
+        assertEquals("K", channel.take());
+        assertEquals(1, keyframesEncoded);
+
+        publish(3, Integer.MAX_VALUE); // Catches up, so the skipped deltas are replaced
+        assertEquals("0K3", channel.take());
+        assertEquals(2, keyframesEncoded);
+
+        publish(4, Integer.MAX_VALUE);
+        assertEquals("D4", channel.take());
+        assertEquals(2, keyframesEncoded);
+    }
+
+    @Test
+    public void testPartialWritesKeepWholeMessages() {
+        // One byte per frame: each message takes two frames, so every other delta is skipped
+        for (int frame = 0; frame <= 8; frame++) {
+            publish(frame, 1);
+        }
+        publish(9, Integer.MAX_VALUE);
+        assertEquals("K0D1K3K5K7K9", channel.take());
+    }
+
+    @Test
+    public void testSpectatorDisconnectedAfterFallingTooFarBehind() {
+        publish(0, 0);
+        for (int frame = 1; frame <= SpectatorStream.MAX_BEHIND_FRAMES; frame++) {
+            publish(frame, 0);
+        }
+        assertEquals(1, stream.getSpectatorCount());
+        assertTrue(channel.isOpen());
+
+        publish(SpectatorStream.MAX_BEHIND_FRAMES + 1, 0);
+        assertEquals(0, stream.getSpectatorCount());
+        assertFalse(channel.isOpen());
+    }
+
+    @Test
+    public void testCatchingUpResetsBehindCount() {
+        publish(0, 0);
+        for (int frame = 1; frame <= SpectatorStream.MAX_BEHIND_FRAMES; frame++) {
+            publish(frame, 0);
+        }
+        publish(SpectatorStream.MAX_BEHIND_FRAMES + 1, Integer.MAX_VALUE);
+        for (int frame = 1; frame <= SpectatorStream.MAX_BEHIND_FRAMES; frame++) {
+            publish(SpectatorStream.MAX_BEHIND_FRAMES + 1 + frame, 0);
+        }
+        assertEquals(1, stream.getSpectatorCount());
+        assertTrue(channel.isOpen());
+    }
+}
@@ -0,0 +1,104 @@
+package game.ui.terminal;
+
+import game.core.Asteroid;
+import game.core.Enemy;
+import game.core.SpaceObject;
+import game.core.SpaceObjectKind;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test for {@link TerminalUI}, covering which cells are redrawn between frames.
+ */
+public class TerminalUITest {
+
+    private static final String ESC = "\u001b[";
+    private static final String ASTEROID = SpaceObjectKind.ASTEROID.getText();
+    private static final String ENEMY = SpaceObjectKind.ENEMY.getText();
+
+    private StringWriter out;
+    private TerminalUI ui;
+
+    @Before
+    public void setUp() {
+        out = new StringWriter();
+        ui = new TerminalUI(out);
+    }
+
+    /**
+     * Renders the objects and returns what drawing them wrote to the terminal.
+     */
+    private String draw(SpaceObject... objects) throws IOException {
+        out.getBuffer().setLength(0);
+        ui.render(new ArrayList<>(List.of(objects)));
+        ui.drawChanges();
+        return out.toString();
+    }
+
+    /**
+     * Returns the escape codes written to draw the text in the cell at (x, y).
+     */
+    private static String drawn(int x, int y, String text) {
+        return cleared(x, y) + moveTo(x, y) + text;
+    }
+
+    /**
+     * Returns the escape codes written to clear the cell at (x, y).
+     */
+    private static String cleared(int x, int y) {
+        return moveTo(x, y) + "  ";
+    }
+
+    private static String moveTo(int x, int y) {
+        return ESC + (y + 2) + ";" + (x * 2 + 2) + "H";
+    }
+
+    @Test
+    public void testFirstFrameDrawsOnlyOccupiedCells() throws IOException {
+        assertEquals(drawn(4, 0, ENEMY) + drawn(1, 2, ASTEROID), // In row order
+                draw(new Asteroid(1, 2), new Enemy(4, 0)));
+        assertEquals(1, ui.getFramesDrawn());
+    }
+
+    @Test
+    public void testUnchangedFrameWritesNothing() throws IOException {
+        draw(new Asteroid(1, 2), new Enemy(4, 0));
+        assertEquals("", draw(new Asteroid(1, 2), new Enemy(4, 0)));
+        assertEquals(2, ui.getFramesDrawn());
+    }
+
+    @Test
+    public void testMovedObjectRedrawsOnlyItsOldAndNewCells() throws IOException {
+        draw(new Asteroid(1, 2), new Enemy(4, 0));
+        assertEquals(cleared(1, 2) + drawn(1, 3, ASTEROID),
+                draw(new Asteroid(1, 3), new Enemy(4, 0)));
+    }
+
+    @Test
+    public void testChangedKindRedrawsCell() throws IOException {
+        draw(new Asteroid(1, 2));
+        assertEquals(drawn(1, 2, ENEMY), draw(new Enemy(1, 2)));
+    }
+
+    @Test
+    public void testObjectsOutOfBoundsAreNotDrawn() throws IOException {
+        assertEquals(drawn(0, 0, ENEMY),
+                draw(new Asteroid(-1, 2), new Asteroid(3, 100), new Enemy(0, 0)));
+    }
+
+    @Test
+    public void testNoNewFrameDrawsNothing() throws IOException {
+        draw(new Asteroid(1, 2));
+        out.getBuffer().setLength(0);
+        ui.drawChanges();
+        assertEquals("", out.toString());
+        assertEquals(1, ui.getFramesDrawn());
+    }
+}
@@ -0,0 +1,64 @@
+package game.utility;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test for {@link AliasTable}.
+ */
+public class AliasTableTest {
+
+    private static int[] histogram(AliasTable table, int samples) {
+        SplitMixRandom random = new SplitMixRandom(11);
+        int[] counts = new int[table.size()];
+        for (int i = 0; i < samples; i++) {
+            counts[table.sample(random)]++;
+        }
+        return counts;
+    }
+
+    @Test
+    public void testFollowsWeights() {
+        int[] counts = histogram(new AliasTable(1, 2, 3, 4), 100_000);
+        assertEquals(10_000, counts[0], 700);
+        assertEquals(20_000, counts[1], 700);
+        assertEquals(30_000, counts[2], 700);
+        assertEquals(40_000, counts[3], 700);
+    }
+
+    @Test
+    public void testZeroWeightNeverSampled() {
+        int[] counts = histogram(new AliasTable(0, 5, 0, 1), 50_000);
+        assertEquals(0, counts[0]);
+        assertEquals(0, counts[2]);
+        assertTrue(counts[1] > counts[3]);
+    }
+
+    @Test
+    public void testSingleWeight() {
+        int[] counts = histogram(new AliasTable(3), 1_000);
+        assertEquals(1_000, counts[0]);
+    }
+
+    @Test
+    public void testManySkewedWeights() {
+        double[] weights = new double[100];
+        weights[0] = 99;
+        for (int i = 1; i < weights.length; i++) {
+            weights[i] = 1.0 / 99;
+        }
+        int[] counts = histogram(new AliasTable(weights), 100_000);
+        assertEquals(99_000, counts[0], 500);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAllZero() {
+        new AliasTable(0, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegative() {
+        new AliasTable(1, -1);
+    }
+}
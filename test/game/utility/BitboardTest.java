@@ -0,0 +1,78 @@
+package game.utility;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test for {@link Bitboard}.
+ */
+public class BitboardTest {
+
+    @Test
+    public void testSetAndGet() {
+        Bitboard board = new Bitboard(10, 20);
+        assertTrue(board.isEmpty());
+        board.set(3, 7);
+        board.set(9, 19);
+        assertTrue(board.get(3, 7));
+        assertTrue(board.get(9, 19));
+        assertFalse(board.get(7, 3));
+        assertEquals(2, board.count());
+    }
+
+    @Test
+    public void testOutOfBoundsIgnored() {
+        Bitboard board = new Bitboard(10, 20);
+        board.set(-1, 0);
+        board.set(10, 0);
+        board.set(0, 20);
+        assertTrue(board.isEmpty());
+        assertFalse(board.get(0, -1));
+    }
+
+    @Test
+    public void testClear() {
+        Bitboard board = new Bitboard(10, 20);
+        board.set(1, 1);
+        board.set(2, 2);
+        board.clear(1, 1);
+        assertFalse(board.get(1, 1));
+        assertTrue(board.get(2, 2));
+        board.clear();
+        assertTrue(board.isEmpty());
+    }
+
+    @Test
+    public void testIntersects() {
+        Bitboard bullets = new Bitboard(10, 20);
+        Bitboard enemies = new Bitboard(10, 20);
+        bullets.set(4, 12);
+        enemies.set(4, 13);
+        assertFalse(bullets.intersects(enemies));
+        enemies.set(4, 12);
+        assertTrue(bullets.intersects(enemies));
+    }
+
+    @Test
+    public void testRowOccupied() {
+        Bitboard board = new Bitboard(10, 20);
+        board.set(9, 6); // Row 6 spans two words
+        assertTrue(board.isRowOccupied(6));
+        assertFalse(board.isRowOccupied(5));
+        assertFalse(board.isRowOccupied(7));
+        assertFalse(board.isRowOccupied(20));
+    }
+
+    @Test
+    public void testOr() {
+        Bitboard first = new Bitboard(10, 20);
+        Bitboard second = new Bitboard(10, 20);
+        first.set(0, 0);
+        second.set(5, 5);
+        first.or(second);
+        assertTrue(first.get(0, 0));
+        assertTrue(first.get(5, 5));
+        assertEquals(2, first.count());
+    }
+}
@@ -0,0 +1,44 @@
+package game.utility;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test for {@link Command}.
+ */
+public class CommandTest {
+
+    @Test
+    public void testFromKeyIgnoresCase() {
+        assertEquals(Command.MOVE_UP, Command.fromKey('W'));
+        assertEquals(Command.MOVE_UP, Command.fromKey('w'));
+        assertEquals(Command.MOVE_LEFT, Command.fromKey('a'));
+        assertEquals(Command.MOVE_DOWN, Command.fromKey('S'));
+        assertEquals(Command.MOVE_RIGHT, Command.fromKey('d'));
+        assertEquals(Command.FIRE, Command.fromKey('F'));
+        assertEquals(Command.PAUSE, Command.fromKey('p'));
+    }
+
+    @Test
+    public void testFromKeyInvalid() {
+        assertEquals(Command.INVALID, Command.fromKey('x'));
+        assertEquals(Command.INVALID, Command.fromKey(' '));
+        assertEquals(Command.INVALID, Command.fromKey(0x263A));
+        assertEquals(Command.INVALID, Command.fromKey(-1));
+    }
+
+    @Test
+    public void testFromInput() {
+        assertEquals(Command.FIRE, Command.fromInput("f"));
+        assertEquals(Command.INVALID, Command.fromInput(""));
+        assertEquals(Command.INVALID, Command.fromInput("WW"));
+    }
+
+    @Test
+    public void testDirection() {
+        assertEquals(Direction.UP, Command.MOVE_UP.getDirection());
+        assertEquals(Direction.RIGHT, Command.MOVE_RIGHT.getDirection());
+        assertNull(Command.FIRE.getDirection());
+    }
+}
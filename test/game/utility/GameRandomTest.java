@@ -0,0 +1,95 @@
+package game.utility;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test for {@link LegacyRandom} and {@link SplitMixRandom}.
+ */
+public class GameRandomTest {
+
+    @Test
+    public void testLegacyMatchesJavaUtilRandom() {
+        Random expected = new Random(42);
+        LegacyRandom actual = new LegacyRandom(42);
+        int[] bounds = {100, 10, 16, 1, 7, Integer.MAX_VALUE};
+        for (int i = 0; i < 10_000; i++) {
+            int bound = bounds[i % bounds.length];
+            assertEquals(expected.nextInt(bound), actual.nextInt(bound));
+            assertEquals(expected.nextBoolean(), actual.nextBoolean());
+        }
+        assertEquals(expected.nextLong(), actual.nextLong());
+    }
+
+    @Test
+    public void testLegacySetSeedMatchesJavaUtilRandom() {
+        Random expected = new Random();
+        LegacyRandom actual = new LegacyRandom();
+        expected.setSeed(-7);
+        actual.setSeed(-7);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(expected.nextInt(100), actual.nextInt(100));
+        }
+    }
+
+    @Test
+    public void testSplitMixIsReproducible() {
+        SplitMixRandom first = new SplitMixRandom(1234);
+        SplitMixRandom second = new SplitMixRandom(1234);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(first.nextLong(), second.nextLong());
+        }
+        first.setSeed(99);
+        second.setSeed(99);
+        assertEquals(first.split().nextLong(), second.split().nextLong());
+    }
+
+    @Test
+    public void testSplitMixStaysInBounds() {
+        SplitMixRandom random = new SplitMixRandom(5);
+        int[] counts = new int[10];
+        for (int i = 0; i < 100_000; i++) {
+            int value = random.nextInt(10);
+            assertTrue(value >= 0 && value < 10);
+            counts[value]++;
+        }
+        for (int count : counts) {
+            assertTrue(count > 9_000 && count < 11_000);
+        }
+        assertEquals(0, random.nextInt(1));
+    }
+
+    @Test
+    public void testSplitStreamsDiffer() {
+        SplitMixRandom root = new SplitMixRandom(7);
+        GameRandom a = root.split();
+        GameRandom b = root.split();
+        int same = 0;
+        for (int i = 0; i < 1000; i++) {
+            if (a.nextInt(100) == b.nextInt(100)) {
+                same++;
+            }
+        }
+        assertTrue(same < 50);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNonPositiveBound() {
+        new SplitMixRandom(1).nextInt(0);
+    }
+
+    @Test
+    public void testCopyContinuesSequence() {
+        GameRandom[] generators = {new LegacyRandom(8), new SplitMixRandom(8)};
+        for (GameRandom random : generators) {
+            random.nextInt(10);
+            GameRandom copy = random.copy();
+            for (int i = 0; i < 100; i++) {
+                assertEquals(random.nextInt(1000), copy.nextInt(1000));
+            }
+        }
+    }
+}